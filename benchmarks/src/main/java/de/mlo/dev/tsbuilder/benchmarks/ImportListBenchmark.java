@@ -0,0 +1,46 @@
+package de.mlo.dev.tsbuilder.benchmarks;
+
+import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiling the import statements of a {@link TsImportList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportListBenchmark {
+
+    @Param({"10", "100"})
+    public int paths;
+
+    @Param({"1", "10"})
+    public int modulesPerPath;
+
+    private TsImportList importList;
+
+    @Setup
+    public void setUp() {
+        importList = ModelFixtures.importList(paths, modulesPerPath);
+    }
+
+    @Benchmark
+    public String buildImports() {
+        return importList.build();
+    }
+}
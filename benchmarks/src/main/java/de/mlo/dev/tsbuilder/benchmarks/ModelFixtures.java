@@ -0,0 +1,119 @@
+package de.mlo.dev.tsbuilder.benchmarks;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import de.mlo.dev.tsbuilder.elements.imports.TsImport;
+import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+import de.mlo.dev.tsbuilder.elements.values.ComplexValue;
+
+/**
+ * Synthetic models of a configurable size. All fixtures are free of
+ * duplicates, unless stated otherwise, so they can be rendered repeatedly
+ * with the same result.
+ */
+public final class ModelFixtures {
+
+    private ModelFixtures() {
+    }
+
+    /**
+     * @param name       Name of the class
+     * @param methods    Number of methods
+     * @param statements Number of content lines per method
+     * @return A class with the given number of methods
+     */
+    public static TsClass classWithMethods(String name, int methods, int statements) {
+        TsClass clazz = new TsClass(name)
+                .setExport()
+                .addField(TsField.string("name", "service"));
+        for (int m = 0; m < methods; m++) {
+            TsMethod method = new TsMethod("method" + m)
+                    .setPublic()
+                    .addStringParameter("value");
+            for (int s = 0; s < statements; s++) {
+                method.addContent("console.log(value, " + s + ");");
+            }
+            clazz.addMethod(method);
+        }
+        return clazz;
+    }
+
+    /**
+     * @param fields Number of fields
+     * @return A class with the given number of string fields
+     */
+    public static TsClass wideClass(int fields) {
+        TsClass clazz = new TsClass("Wide").setExport();
+        for (int f = 0; f < fields; f++) {
+            clazz.addField(TsField.string("field" + f, "value" + f));
+        }
+        return clazz;
+    }
+
+    /**
+     * @param depth Nesting depth of the complex value
+     * @return A class with a method which contains a deeply nested {@link ComplexValue}
+     */
+    public static TsClass deepClass(int depth) {
+        ComplexValue value = new ComplexValue().addStringValue("leaf", "value");
+        for (int d = 0; d < depth; d++) {
+            value = new ComplexValue()
+                    .addStringValue("level", String.valueOf(d))
+                    .addValue("child" + d, value);
+        }
+        return new TsClass("Deep")
+                .setExport()
+                .addMethod(new TsMethod("create")
+                        .addContent("return ")
+                        .addContent(value));
+    }
+
+    /**
+     * @param classes         Number of classes in the file
+     * @param importsPerClass Number of imports declared by each class
+     * @return A file with the given number of classes and imports
+     */
+    public static TsFile fileWithImports(int classes, int importsPerClass) {
+        TsFile file = new TsFile("generated.ts");
+        for (int c = 0; c < classes; c++) {
+            TsClass clazz = classWithMethods("Service" + c, 5, 3);
+            for (int i = 0; i < importsPerClass; i++) {
+                clazz.addImport("Model" + i, "./models/model-" + (i % 10));
+            }
+            file.addClass(clazz);
+        }
+        return file;
+    }
+
+    /**
+     * @param methods   Number of distinct methods
+     * @param duplicates How often each method is declared
+     * @return A class with each method declared several times (interleaved)
+     */
+    public static TsClass classWithDuplicatedMethods(int methods, int duplicates) {
+        TsClass clazz = new TsClass("Duplicated");
+        for (int d = 0; d < duplicates; d++) {
+            for (int m = 0; m < methods; m++) {
+                clazz.addMethod(new TsMethod("method" + m).addContent("// declaration " + d));
+            }
+        }
+        return clazz;
+    }
+
+    /**
+     * @param paths          Number of distinct import paths
+     * @param modulesPerPath Number of modules imported from each path
+     * @return An import list with paths * modulesPerPath imports
+     */
+    public static TsImportList importList(int paths, int modulesPerPath) {
+        TsImportList importList = new TsImportList();
+        for (int m = 0; m < modulesPerPath; m++) {
+            for (int p = 0; p < paths; p++) {
+                importList.add(new TsImport("Module" + p + "_" + m, "./path/module-" + p));
+            }
+        }
+        return importList;
+    }
+}
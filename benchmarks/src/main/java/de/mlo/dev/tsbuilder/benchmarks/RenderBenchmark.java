@@ -0,0 +1,70 @@
+package de.mlo.dev.tsbuilder.benchmarks;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering throughput of {@link de.mlo.dev.tsbuilder.elements.TsElement#build()}
+ * and {@link de.mlo.dev.tsbuilder.elements.TsElement#buildWithImports()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    /**
+     * Scales all fixtures: number of methods, classes per file,
+     * nesting depth and (times 100) the number of fields.
+     */
+    @Param({"10", "100"})
+    public int size;
+
+    private TsClass classWithMethods;
+    private TsFile fileWithImports;
+    private TsClass deepClass;
+    private TsClass wideClass;
+
+    @Setup
+    public void setUp() {
+        classWithMethods = ModelFixtures.classWithMethods("Service", size, 10);
+        fileWithImports = ModelFixtures.fileWithImports(size, 20);
+        deepClass = ModelFixtures.deepClass(size);
+        wideClass = ModelFixtures.wideClass(size * 100);
+    }
+
+    @Benchmark
+    public String buildClass() {
+        return classWithMethods.build();
+    }
+
+    @Benchmark
+    public String buildFileWithImports() {
+        return fileWithImports.buildWithImports();
+    }
+
+    @Benchmark
+    public String buildDeepNesting() {
+        return deepClass.build();
+    }
+
+    @Benchmark
+    public String buildWideClass() {
+        return wideClass.build();
+    }
+}
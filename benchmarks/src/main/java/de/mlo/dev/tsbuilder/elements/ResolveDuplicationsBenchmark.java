@@ -0,0 +1,49 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.benchmarks.ModelFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TsElementList#resolveDuplications()} merges the elements it resolves,
+ * so the list has to be recreated before each invocation. This benchmark lives
+ * in the package of {@link TsElementList} because the method is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolveDuplicationsBenchmark {
+
+    @Param({"100", "2000"})
+    public int methods;
+
+    @Param({"1", "2"})
+    public int duplicates;
+
+    private TsElementList contentList;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        contentList = ModelFixtures.classWithDuplicatedMethods(methods, duplicates).getContentList();
+    }
+
+    @Benchmark
+    public TsElementList resolveDuplications() {
+        return contentList.resolveDuplications();
+    }
+}
@@ -0,0 +1,148 @@
+package de.mlo.dev.tsbuilder;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An {@link Appendable} which encodes everything appended to it and writes
+ * the bytes to a {@link WritableByteChannel}. The characters are collected in a
+ * fixed size buffer and encoded chunk by chunk, so the memory consumption does
+ * not depend on the size of the written content.<br>
+ * The buffers can be reused for several channels with {@link #reset(WritableByteChannel)}.
+ * Do not forget to {@link #flush()} after the last append.
+ */
+public class ChannelOutput implements Appendable, Flushable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private WritableByteChannel channel;
+
+    public ChannelOutput(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param channel    The channel to write to
+     * @param bufferSize The number of characters which are encoded at once
+     * @param charset    The charset of the written content
+     */
+    public ChannelOutput(WritableByteChannel channel, int bufferSize, Charset charset) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("bufferSize must be at least 2 but was " + bufferSize);
+        }
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.bytes = ByteBuffer.allocate((int) Math.ceil(bufferSize * (double) encoder.maxBytesPerChar()));
+    }
+
+    /**
+     * Switches to another channel and keeps the allocated buffers. Everything
+     * which has not been {@link #flush() flushed} before will be discarded.
+     *
+     * @param channel The new channel to write to
+     * @return this
+     */
+    public ChannelOutput reset(WritableByteChannel channel) {
+        this.channel = channel;
+        this.chars.clear();
+        this.bytes.clear();
+        this.encoder.reset();
+        return this;
+    }
+
+    @Override
+    public ChannelOutput append(CharSequence csq) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public ChannelOutput append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        int position = start;
+        while (position < end) {
+            int length = Math.min(chars.remaining(), end - position);
+            if (csq instanceof String string) {
+                chars.put(string, position, position + length);
+            } else {
+                for (int i = position; i < position + length; i++) {
+                    chars.put(csq.charAt(i));
+                }
+            }
+            position += length;
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ChannelOutput append(char c) throws IOException {
+        chars.put(c);
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+        return this;
+    }
+
+    /**
+     * Encodes all pending characters and writes them to the channel. The
+     * channel itself will not be closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        encode(true);
+        CoderResult result;
+        do {
+            result = encoder.flush(bytes);
+            writeBytes();
+        } while (result.isOverflow());
+        encoder.reset();
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, endOfInput);
+            if (result.isError()) {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    throw new IOException(e);
+                }
+            }
+            writeBytes();
+        } while (result.isOverflow());
+        // an incomplete surrogate pair stays in the buffer for the next chunk
+        chars.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,223 @@
+package de.mlo.dev.tsbuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>
+ * A channel which replaces the content of a file only if the new content differs.
+ * The written bytes are compared with the existing file while they are written.
+ * As long as they are equal nothing is written at all. At the first difference a
+ * temporary file next to the target is created, the equal prefix is copied and
+ * the rest is written to the temporary file. {@link #commit()} moves the temporary
+ * file to the target, so an unchanged file keeps its modification time and readers
+ * never see a partially written file.
+ * </p>
+ * <p>
+ * A CRC32C checksum of the new content is computed on the fly.
+ * </p>
+ */
+public class FileUpdateChannel implements WritableByteChannel {
+
+    private static final int COMPARE_BUFFER_SIZE = 32 * 1024;
+
+    private final Path target;
+    private final CRC32C checksum = new CRC32C();
+    private FileChannel existing;
+    private long existingSize = -1;
+    private ByteBuffer compareBuffer;
+    private Path tempFile;
+    private FileChannel temp;
+    private long position;
+    private boolean open = true;
+
+    /**
+     * @param target The file to update. The parent directory must exist.
+     * @throws IOException if the existing file could not be opened
+     */
+    public FileUpdateChannel(Path target) throws IOException {
+        this(target, Files.isRegularFile(target) ? FileChannel.open(target, StandardOpenOption.READ) : null);
+    }
+
+    private FileUpdateChannel(Path target, FileChannel existing) {
+        this.target = target;
+        this.existing = existing;
+        if (existing != null) {
+            this.compareBuffer = ByteBuffer.allocateDirect(COMPARE_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Creates a channel which always replaces the target, without comparing the
+     * content with the existing file.
+     *
+     * @param target The file to replace. The parent directory must exist.
+     * @return A new {@link FileUpdateChannel}
+     */
+    public static FileUpdateChannel overwrite(Path target) {
+        return new FileUpdateChannel(target, null);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = src.remaining();
+        checksum.update(src.duplicate());
+        if (temp == null) {
+            int equal = compare(src);
+            position += equal;
+            src.position(src.position() + equal);
+            if (!src.hasRemaining()) {
+                return length;
+            }
+            diverge();
+        }
+        while (src.hasRemaining()) {
+            position += temp.write(src);
+        }
+        return length;
+    }
+
+    /**
+     * @return The number of bytes at the start of the given buffer which are
+     * equal to the existing file at the current position
+     */
+    private int compare(ByteBuffer src) throws IOException {
+        if (existing == null) {
+            return 0;
+        }
+        long existingSize = existingSize();
+        int equal = 0;
+        int remaining = src.remaining();
+        while (equal < remaining && position + equal < existingSize) {
+            int chunk = (int) Math.min(Math.min(remaining - equal, compareBuffer.capacity()), existingSize - position - equal);
+            compareBuffer.clear().limit(chunk);
+            while (compareBuffer.hasRemaining()) {
+                if (existing.read(compareBuffer, position + equal + compareBuffer.position()) < 0) {
+                    break;
+                }
+            }
+            compareBuffer.flip();
+            ByteBuffer slice = src.slice(src.position() + equal, compareBuffer.limit());
+            int mismatch = slice.mismatch(compareBuffer);
+            if (mismatch >= 0) {
+                return equal + mismatch;
+            }
+            equal += compareBuffer.limit();
+        }
+        return equal;
+    }
+
+    /**
+     * Switches from comparing to writing. The equal prefix is copied from the
+     * existing file into a new temporary file.
+     */
+    private void diverge() throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        temp = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+        long copied = 0;
+        while (copied < position) {
+            copied += existing.transferTo(copied, position - copied, temp);
+        }
+    }
+
+    /**
+     * Finishes the update and closes this channel.
+     *
+     * @return <code>true</code> if the content differs and the target has been
+     * replaced, <code>false</code> if the file was left untouched
+     * @throws IOException if the file could not be replaced
+     */
+    public boolean commit() throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        if (temp == null && existing != null && position == existingSize()) {
+            close();
+            return false;
+        }
+        if (temp == null) {
+            // the new content is empty, a prefix of the existing file or there was no file at all
+            diverge();
+        }
+        temp.force(false);
+        temp.close();
+        temp = null;
+        closeExisting();
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        tempFile = null;
+        open = false;
+        return true;
+    }
+
+    /**
+     * @return The CRC32C checksum of the content written so far
+     */
+    public long getChecksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * @return The number of bytes written so far
+     */
+    public long getSize() {
+        return position;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes this channel. If the update has not been {@link #commit() committed}
+     * the target stays untouched and the temporary file is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            closeExisting();
+            if (temp != null) {
+                temp.close();
+            }
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private long existingSize() throws IOException {
+        if (existingSize < 0) {
+            existingSize = existing.size();
+        }
+        return existingSize;
+    }
+
+    private void closeExisting() throws IOException {
+        if (existing != null) {
+            existing.close();
+            existing = null;
+        }
+    }
+}
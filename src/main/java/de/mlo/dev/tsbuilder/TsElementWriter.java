@@ -7,6 +7,7 @@ import de.mlo.dev.tsbuilder.elements.values.Literal;
 import lombok.Getter;
 
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -24,11 +25,8 @@ public abstract class TsElementWriter<E extends TsElement<?>> {
     public static <E extends TsElement<E>> TsElementWriter<E> wrap(TsContext context, E inElement, Supplier<String> writeFunction) {
         return new TsElementWriter<E>(context, inElement) {
             @Override
-            public String build() {
-                String beforeElementContent = buildBeforeElementContent();
-                String content = writeFunction.get();
-                String afterElementContent = buildAfterElementContent();
-                return beforeElementContent + content + afterElementContent;
+            public void write() {
+                getOutput().append(writeFunction.get());
             }
         };
     }
@@ -36,11 +34,8 @@ public abstract class TsElementWriter<E extends TsElement<?>> {
     public static <E extends TsElement<E>> TsElementWriter<E> wrap(TsContext context, E inElement, Function<TsContext, String> writeFunction) {
         return new TsElementWriter<E>(context, inElement) {
             @Override
-            public String build() {
-                String beforeElementContent = buildBeforeElementContent();
-                String content = writeFunction.apply(getContext());
-                String afterElementContent = buildAfterElementContent();
-                return beforeElementContent + content + afterElementContent;
+            public void write() {
+                getOutput().append(writeFunction.apply(getContext()));
             }
         };
     }
@@ -48,11 +43,28 @@ public abstract class TsElementWriter<E extends TsElement<?>> {
     public static <E extends TsElement<E>> TsElementWriter<E> wrap(TsContext context, E inElement, BiFunction<TsContext, E, String> writeFunction) {
         return new TsElementWriter<E>(context, inElement) {
             @Override
-            public String build() {
-                String beforeElementContent = buildBeforeElementContent();
-                String content = writeFunction.apply(getContext(), inElement);
-                String afterElementContent = buildAfterElementContent();
-                return beforeElementContent + content + afterElementContent;
+            public void write() {
+                getOutput().append(writeFunction.apply(getContext(), inElement));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link #wrap(TsContext, TsElement, Function)} but the write function
+     * appends directly to the {@link TsContext#getOutput() output} of the context
+     * instead of returning a string.
+     *
+     * @param context       The context to write to
+     * @param inElement     The element to write
+     * @param writeFunction Appends the element to the output of the given context
+     * @param <E>           The type of the element
+     * @return A new {@link TsElementWriter}
+     */
+    public static <E extends TsElement<E>> TsElementWriter<E> streaming(TsContext context, E inElement, Consumer<TsContext> writeFunction) {
+        return new TsElementWriter<E>(context, inElement) {
+            @Override
+            public void write() {
+                writeFunction.accept(getContext());
             }
         };
     }
@@ -60,8 +72,8 @@ public abstract class TsElementWriter<E extends TsElement<?>> {
     public static TsElementWriter<Literal> literal(TsContext context, String literal) {
         return new TsElementWriter<>(context, new Literal(literal)) {
             @Override
-            public String build() {
-                return literal;
+            public void write() {
+                getOutput().append(literal);
             }
         };
     }
@@ -74,21 +86,60 @@ public abstract class TsElementWriter<E extends TsElement<?>> {
         return text.indent(getIndent());
     }
 
-    public abstract String build();
+    /**
+     * Streaming counterpart of {@link #indent(String)}. Everything the given
+     * action writes to the {@link #getOutput() output} gets indented without
+     * rendering it into an intermediate string first.
+     *
+     * @param writeAction The action which writes the indented content
+     */
+    public void writeIndented(Runnable writeAction) {
+        getContext().writeIndented(writeAction);
+    }
 
-    public String buildBeforeElementContent() {
+    /**
+     * @return The sink of the current context. Everything this writer
+     * produces has to be appended to it.
+     */
+    public TsOutput getOutput() {
+        return getContext().getOutput();
+    }
+
+    /**
+     * Appends the element to the {@link #getOutput() output} of the context.
+     */
+    public abstract void write();
+
+    /**
+     * Convenient function to get the output of {@link #write()} as a string.
+     *
+     * @return The element as string
+     */
+    public String build() {
+        return getContext().capture(this::write);
+    }
+
+    public void writeBeforeElementContent() {
         TsElementList beforeElementContent = getElement().getBeforeElementContent();
         if (!beforeElementContent.isEmpty()) {
-            return beforeElementContent.build(getContext()) + "\n";
+            beforeElementContent.write(getContext());
+            getOutput().append('\n');
         }
-        return "";
     }
 
-    public String buildAfterElementContent() {
+    public void writeAfterElementContent() {
         TsElementList afterElementContent = getElement().getAfterElementContent();
         if (!afterElementContent.isEmpty()) {
-            return "\n" + afterElementContent.build(getContext());
+            getOutput().append('\n');
+            afterElementContent.write(getContext());
         }
-        return "";
+    }
+
+    public String buildBeforeElementContent() {
+        return getContext().capture(this::writeBeforeElementContent);
+    }
+
+    public String buildAfterElementContent() {
+        return getContext().capture(this::writeAfterElementContent);
     }
 }
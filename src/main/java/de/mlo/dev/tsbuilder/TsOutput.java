@@ -0,0 +1,191 @@
+package de.mlo.dev.tsbuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * The sink all {@link TsElementWriter writers} append their output to.<br>
+ * There is only one output per render run. It is passed down through the
+ * {@link de.mlo.dev.tsbuilder.elements.TsContext TsContext}, so nested
+ * elements append to the same target instead of returning strings which
+ * have to be concatenated by their parents again.<br>
+ * The output keeps track of the current indentation. Every line which is
+ * written after {@link #indent(int)} gets prefixed with the whitespace of the
+ * current depth, so a nested body does not have to be rendered into a string
+ * and re-indented by each of its parents. The result is the same as with
+ * {@link String#indent(int)}.
+ */
+public class TsOutput implements Appendable {
+
+    private static final String[] PREFIX_CACHE = new String[64];
+
+    static {
+        for (int i = 0; i < PREFIX_CACHE.length; i++) {
+            PREFIX_CACHE[i] = " ".repeat(i);
+        }
+    }
+
+    private final Appendable target;
+
+    private int[] widths = new int[8];
+    private long[] writtenAtIndent = new long[8];
+    private boolean[] lineStartAtIndent = new boolean[8];
+    private int depth;
+    private int currentWidth;
+    private String currentPrefix = "";
+    private boolean lineStart = true;
+    private long written;
+
+    /**
+     * @param target Any target like a {@link StringBuilder} or a {@link java.io.Writer}
+     */
+    public TsOutput(Appendable target) {
+        this.target = target;
+    }
+
+    /**
+     * @param width Number of spaces
+     * @return A string with the given number of spaces. Common widths are cached.
+     */
+    public static String prefix(int width) {
+        return width < PREFIX_CACHE.length ? PREFIX_CACHE[width] : " ".repeat(width);
+    }
+
+    public Appendable getTarget() {
+        return target;
+    }
+
+    /**
+     * @return The current indentation in spaces
+     */
+    public int getCurrentIndent() {
+        return currentWidth;
+    }
+
+    /**
+     * Increases the indentation by the given width. Everything written until
+     * the matching {@link #outdent()} is indented like
+     * <code>text.indent(width)</code>.
+     *
+     * @param width Number of spaces
+     * @return this
+     */
+    public TsOutput indent(int width) {
+        if (depth == widths.length) {
+            widths = Arrays.copyOf(widths, depth * 2);
+            writtenAtIndent = Arrays.copyOf(writtenAtIndent, depth * 2);
+            lineStartAtIndent = Arrays.copyOf(lineStartAtIndent, depth * 2);
+        }
+        widths[depth] = width;
+        writtenAtIndent[depth] = written;
+        lineStartAtIndent[depth] = lineStart;
+        depth++;
+        currentWidth += width;
+        currentPrefix = prefix(currentWidth);
+        lineStart = true;
+        return this;
+    }
+
+    /**
+     * Reverts the last {@link #indent(int)}. Like {@link String#indent(int)} a
+     * non-empty indented block is always terminated with a line break.
+     *
+     * @return this
+     */
+    public TsOutput outdent() {
+        if (depth == 0) {
+            throw new IllegalStateException("outdent() without indent()");
+        }
+        depth--;
+        if (written == writtenAtIndent[depth]) {
+            lineStart = lineStartAtIndent[depth];
+        } else if (!lineStart) {
+            appendRaw('\n');
+            lineStart = true;
+        }
+        currentWidth -= widths[depth];
+        currentPrefix = prefix(currentWidth);
+        return this;
+    }
+
+    @Override
+    public TsOutput append(CharSequence csq) {
+        if (csq == null) {
+            csq = "null";
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public TsOutput append(CharSequence csq, int start, int end) {
+        if (csq == null) {
+            csq = "null";
+        }
+        if (start == end) {
+            return this;
+        }
+        written += end - start;
+        if (currentWidth == 0) {
+            appendRaw(csq, start, end);
+            lineStart = csq.charAt(end - 1) == '\n';
+            return this;
+        }
+        int lineBegin = start;
+        for (int i = start; i < end; i++) {
+            if (lineStart) {
+                appendRaw(currentPrefix);
+                lineStart = false;
+            }
+            if (csq.charAt(i) == '\n') {
+                appendRaw(csq, lineBegin, i + 1);
+                lineBegin = i + 1;
+                lineStart = true;
+            }
+        }
+        if (lineBegin < end) {
+            appendRaw(csq, lineBegin, end);
+        }
+        return this;
+    }
+
+    @Override
+    public TsOutput append(char c) {
+        written++;
+        if (lineStart && currentWidth > 0) {
+            appendRaw(currentPrefix);
+        }
+        appendRaw(c);
+        lineStart = c == '\n';
+        return this;
+    }
+
+    private void appendRaw(CharSequence csq) {
+        try {
+            target.append(csq);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendRaw(CharSequence csq, int start, int end) {
+        try {
+            target.append(csq, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendRaw(char c) {
+        try {
+            target.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return target.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package de.mlo.dev.tsbuilder.elements;
+
+/**
+ * Thrown if a {@link TsElement#freeze() frozen} element or collection is modified
+ */
+public class FrozenElementException extends UnsupportedOperationException {
+    public FrozenElementException() {
+        super("The element has been frozen and cannot be modified anymore");
+    }
+}
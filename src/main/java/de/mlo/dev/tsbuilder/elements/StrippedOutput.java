@@ -0,0 +1,70 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import java.io.IOException;
+
+/**
+ * Streaming counterpart of {@link String#strip()}. Leading whitespaces are
+ * dropped and whitespaces are only passed to the target if they are followed
+ * by another character, so trailing whitespaces never reach the target.
+ */
+class StrippedOutput implements Appendable {
+
+    private final Appendable target;
+    private final StringBuilder pendingWhitespace = new StringBuilder();
+    private boolean contentStarted;
+
+    StrippedOutput(Appendable target) {
+        this.target = target;
+    }
+
+    @Override
+    public StrippedOutput append(CharSequence csq) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public StrippedOutput append(CharSequence csq, int start, int end) throws IOException {
+        int segmentStart = start;
+        for (int i = start; i < end; i++) {
+            if (Character.isWhitespace(csq.charAt(i))) {
+                if (segmentStart < i) {
+                    target.append(csq, segmentStart, i);
+                }
+                segmentStart = i + 1;
+                if (contentStarted) {
+                    pendingWhitespace.append(csq.charAt(i));
+                }
+            } else if (segmentStart == i) {
+                releasePendingWhitespace();
+            }
+        }
+        if (segmentStart < end) {
+            target.append(csq, segmentStart, end);
+        }
+        return this;
+    }
+
+    @Override
+    public StrippedOutput append(char c) throws IOException {
+        if (Character.isWhitespace(c)) {
+            if (contentStarted) {
+                pendingWhitespace.append(c);
+            }
+        } else {
+            releasePendingWhitespace();
+            target.append(c);
+        }
+        return this;
+    }
+
+    private void releasePendingWhitespace() throws IOException {
+        contentStarted = true;
+        if (!pendingWhitespace.isEmpty()) {
+            target.append(pendingWhitespace);
+            pendingWhitespace.setLength(0);
+        }
+    }
+}
@@ -1,24 +1,237 @@
 package de.mlo.dev.tsbuilder.elements;
 
+import de.mlo.dev.tsbuilder.TsOutput;
 import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+import de.mlo.dev.tsbuilder.elements.imports.TsTypeRegistry;
+import de.mlo.dev.tsbuilder.elements.values.Literal;
 import lombok.Getter;
 
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 @Getter
 public class TsContext {
     private final TsElementList elementList = new TsElementList();
     private final TsImportList importList = new TsImportList();
     private int indent = 2;
 
+    /**
+     * If enabled, every written element is kept in the {@link #getElementList() element list}.
+     * Disabled by default, so elements which have been written can be garbage collected
+     * while the rest of the tree is still rendered. The imports are always collected.
+     */
+    private boolean retainElements;
+
+    /**
+     * Caches the output of {@link TsElement#freeze() frozen} elements. Disabled if <code>null</code>,
+     * which is the default. The cache is not used while {@link #isRetainElements() elements are retained}.
+     */
+    private TsRenderCache renderCache;
+
+    /**
+     * Resolves the imports of the referenced types while the elements are written.
+     * Disabled if <code>null</code>, which is the default.
+     */
+    private TsTypeRegistry typeRegistry;
+
+    /**
+     * The types which are declared by the file which is written. They are not
+     * imported by the {@link #getTypeRegistry() type registry}.
+     */
+    private Set<String> declaredTypes = Set.of();
+
+    /**
+     * Renders the content of a {@link de.mlo.dev.tsbuilder.elements.file.TsFile file}
+     * in parallel. Disabled if <code>null</code>, which is the default. Only a file
+     * which is {@link TsElement#freeze() frozen} is rendered in parallel, e.g. the
+     * files of a {@link de.mlo.dev.tsbuilder.project.TsProject project}. Other files
+     * are rendered sequentially, because writing them modifies them. The writing
+     * thread never waits for a queued task, so the executor of a project can be used
+     * as well.
+     */
+    private Executor executor;
+
+    /**
+     * The sink every writer of this context appends to
+     */
+    private TsOutput output;
+
+    public TsContext() {
+        this(new StringBuilder());
+    }
+
+    /**
+     * Creates a context which writes all elements into the given target.
+     *
+     * @param target The target for the rendered TypeScript code
+     */
+    public TsContext(Appendable target) {
+        this.output = new TsOutput(target);
+    }
+
     public void add(TsElement<?> element){
-        this.elementList.add(element);
-        this.importList.addAll(element.getImportList());
+        if (retainElements) {
+            this.elementList.add(element);
+        }
+        TsImportList elementImports = element.getImportList();
+        if (!elementImports.isEmpty()) {
+            this.importList.addAll(elementImports);
+        }
     }
 
     public void setIndent(int indent) {
         this.indent = indent;
     }
 
+    public void setRetainElements(boolean retainElements) {
+        this.retainElements = retainElements;
+    }
+
+    public void setRenderCache(TsRenderCache renderCache) {
+        this.renderCache = renderCache;
+    }
+
+    public void setTypeRegistry(TsTypeRegistry typeRegistry) {
+        this.typeRegistry = typeRegistry;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * <p>
+     * Creates a context for a render task which runs in parallel to other tasks of
+     * this context. The fork uses the settings of this context, but has its own
+     * output and imports, so the tasks do not share any mutable state. The fork
+     * renders sequentially.
+     * </p>
+     * Use {@link #merge(TsContext)} to add the imports of every fork in the order of
+     * the tasks. So the imports are in the same order as if the tasks had been
+     * written one after another with this context.
+     *
+     * @param target The output of the task
+     * @return A new context
+     */
+    public TsContext fork(Appendable target) {
+        TsContext fork = new TsContext(target);
+        fork.indent = indent;
+        fork.retainElements = retainElements;
+        fork.renderCache = renderCache;
+        fork.typeRegistry = typeRegistry;
+        fork.declaredTypes = declaredTypes;
+        return fork;
+    }
+
+    /**
+     * Adds the imports and retained elements of a finished {@link #fork(Appendable) fork}
+     * to this context.
+     *
+     * @param fork A fork of this context
+     */
+    public void merge(TsContext fork) {
+        if (retainElements && !fork.elementList.isEmpty()) {
+            this.elementList.addAll(fork.elementList);
+        }
+        if (!fork.importList.isEmpty()) {
+            this.importList.addAll(fork.importList);
+        }
+    }
+
+    /**
+     * Adds the imports of the given type if the type is known by the
+     * {@link #getTypeRegistry() type registry}. Does nothing without a registry.
+     *
+     * @param typeName The name of a type or any type expression
+     */
+    public void addTypeReference(CharSequence typeName) {
+        if (typeRegistry != null && typeName != null) {
+            typeRegistry.collectImports(typeName, declaredTypes, importList);
+        }
+    }
+
+    /**
+     * Writes the given element at the position of a type, e.g. the type of a field
+     * or parameter. A {@link Literal} is looked up in the {@link #getTypeRegistry() type
+     * registry} like the name of a type. Literals at any other position, e.g. the
+     * content of a method, are written without a lookup.
+     *
+     * @param type The type to write
+     */
+    public void writeType(TsElement<?> type) {
+        if (typeRegistry != null && type instanceof Literal literal) {
+            addTypeReference(literal.getLiteral());
+        }
+        type.write(this);
+    }
+
+    /**
+     * Runs the given write action with the given types declared locally. The
+     * {@link #getTypeRegistry() type registry} does not import declared types.
+     * With a {@link #getRenderCache() render cache} equal sets are interned, so the
+     * cached elements of files which declare the same types are shared.
+     *
+     * @param declaredTypes The names of the declared types
+     * @param writeAction   The action which writes the declaring element
+     */
+    public void declareTypes(Set<String> declaredTypes, Runnable writeAction) {
+        Set<String> previous = this.declaredTypes;
+        this.declaredTypes = renderCache == null ? declaredTypes : renderCache.intern(declaredTypes);
+        try {
+            writeAction.run();
+        } finally {
+            this.declaredTypes = previous;
+        }
+    }
+
     public String compileImports() {
         return importList.build();
     }
+
+    /**
+     * Runs the given write action with the output indented by
+     * {@link #getIndent()}.
+     *
+     * @param writeAction The action which writes into {@link #getOutput()}
+     */
+    public void writeIndented(Runnable writeAction) {
+        output.indent(indent);
+        try {
+            writeAction.run();
+        } finally {
+            output.outdent();
+        }
+    }
+
+    /**
+     * Runs the given write action against a temporary output and returns
+     * everything the action has written as a string. The output of this
+     * context is restored afterwards. Imports are still collected by this
+     * context.
+     *
+     * @param writeAction The action which writes into {@link #getOutput()}
+     * @return The captured output
+     */
+    public String capture(Runnable writeAction) {
+        StringBuilder sb = new StringBuilder();
+        redirect(sb, writeAction);
+        return sb.toString();
+    }
+
+    /**
+     * Runs the given write action with the output of this context redirected
+     * to the given target. The output of this context is restored afterwards.
+     *
+     * @param target      The temporary target
+     * @param writeAction The action which writes into {@link #getOutput()}
+     */
+    public void redirect(Appendable target, Runnable writeAction) {
+        TsOutput previous = this.output;
+        this.output = new TsOutput(target);
+        try {
+            writeAction.run();
+        } finally {
+            this.output = previous;
+        }
+    }
 }
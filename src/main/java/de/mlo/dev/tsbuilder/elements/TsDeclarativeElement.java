@@ -10,5 +10,19 @@ public abstract class TsDeclarativeElement<E extends TsDeclarativeElement<E>> ex
 
     public abstract boolean isMergeRequired(E other);
 
+    /**
+     * Elements can only be {@link #isMergeRequired(TsDeclarativeElement) merged}
+     * if their merge keys are equal. The key is used to find merge candidates
+     * without comparing each element with each other. Implementations should
+     * return the attributes which are checked by
+     * {@link #isMergeRequired(TsDeclarativeElement)}. The default key is the same
+     * for all elements.
+     *
+     * @return A key with a proper {@link Object#hashCode()} and {@link Object#equals(Object)}
+     */
+    public Object getMergeKey() {
+        return TsDeclarativeElement.class;
+    }
+
     public abstract E merge(E other);
 }
@@ -3,10 +3,18 @@ package de.mlo.dev.tsbuilder.elements;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.imports.TsImport;
 import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+import de.mlo.dev.tsbuilder.elements.imports.TsTypeRegistry;
 import de.mlo.dev.tsbuilder.elements.values.Literal;
 import lombok.Getter;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The godfather of any element in the typescript universe.<br>
@@ -22,9 +30,21 @@ import java.util.Collection;
 @SuppressWarnings("unchecked")
 public abstract class TsElement<E extends TsElement<E>> {
 
-    private final TsElementList beforeElementContent = new TsElementList();
-    private final TsElementList afterElementContent = new TsElementList();
-    private final TsImportList importList = new TsImportList();
+    private static final TsElementList EMPTY_ELEMENT_LIST = new TsElementList();
+    private static final TsImportList EMPTY_IMPORT_LIST = new TsImportList();
+
+    static {
+        EMPTY_ELEMENT_LIST.freeze();
+        EMPTY_IMPORT_LIST.freeze();
+    }
+
+    // Most elements have neither imports nor before or after content. The
+    // collections are created on the first write to keep leaf elements small.
+    private TsElementList beforeElementContent;
+    private TsElementList afterElementContent;
+    private TsImportList importList;
+    // the state of the element, not part of the model
+    private transient boolean frozen;
 
     public TsElement() {
 
@@ -36,9 +56,15 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @param element The element to copy from
      */
     public TsElement(E element) {
-        this.beforeElementContent.addAll(element.getBeforeElementContent());
-        this.afterElementContent.addAll(element.getAfterElementContent());
-        this.importList.addAll(element.getImportList());
+        if (!element.getBeforeElementContent().isEmpty()) {
+            addBeforeElementContent(element.getBeforeElementContent());
+        }
+        if (!element.getAfterElementContent().isEmpty()) {
+            addAfterElementContent(element.getAfterElementContent());
+        }
+        if (!element.getImportList().isEmpty()) {
+            addImports(element.getImportList());
+        }
     }
 
     /**
@@ -54,6 +80,161 @@ public abstract class TsElement<E extends TsElement<E>> {
 
     protected abstract TsElementWriter<E> createWriter(TsContext context);
 
+    /**
+     * <p>
+     * Converts this element and all of its children into an immutable snapshot.
+     * Any further modification throws a {@link FrozenElementException}.
+     * </p>
+     * <p>
+     * Duplicated children are {@link TsElementList#resolveDuplications() resolved}
+     * while freezing. The collections of a frozen element cache their hash code and
+     * compare by identity first, so frozen elements are cheap to compare and can be
+     * shared between threads.
+     * </p>
+     * <p>
+     * Freezing is recursive like {@link #write(TsContext) writing}, so the depth of
+     * the tree is limited by the stack size of the calling thread.
+     * </p>
+     *
+     * @return this
+     */
+    public E freeze() {
+        if (!frozen) {
+            frozen = true;
+            if (beforeElementContent != null) {
+                beforeElementContent.freeze();
+            }
+            if (afterElementContent != null) {
+                afterElementContent.freeze();
+            }
+            if (importList != null) {
+                importList.freeze();
+            }
+            freezeContent();
+        }
+        return (E) this;
+    }
+
+    /**
+     * Freezes the collections and child elements of the implementation.
+     * Called once by {@link #freeze()}.
+     */
+    protected void freezeContent() {
+    }
+
+    /**
+     * Freezes the given child, if present
+     *
+     * @param child The child to freeze or <code>null</code>
+     */
+    protected static void freezeChild(TsElement<?> child) {
+        if (child != null) {
+            child.freeze();
+        }
+    }
+
+    /**
+     * <p>
+     * Visits this element and all its descendants in the order they are written:
+     * the before element content, the children and the after element content.
+     * </p>
+     * <p>
+     * The tree is walked with an explicit stack instead of recursion, so the depth
+     * of the tree is not limited by the stack size of the thread. Elements which are
+     * created while writing, like the items of a
+     * {@link de.mlo.dev.tsbuilder.elements.values.StreamingArrayValue StreamingArrayValue},
+     * are not part of the tree.
+     * </p>
+     *
+     * @param visitor The visitor to call for every element
+     */
+    public void accept(TsElementVisitor visitor) {
+        if (!visitor.enter(this)) {
+            visitor.leave(this);
+            return;
+        }
+        Deque<Visit> stack = new ArrayDeque<>();
+        stack.push(new Visit(this, children()));
+        while (!stack.isEmpty()) {
+            Visit visit = stack.peek();
+            if (visit.children().hasNext()) {
+                TsElement<?> child = visit.children().next();
+                if (visitor.enter(child)) {
+                    stack.push(new Visit(child, child.children()));
+                } else {
+                    visitor.leave(child);
+                }
+            } else {
+                stack.pop();
+                visitor.leave(visit.element());
+            }
+        }
+    }
+
+    /**
+     * Collects the imports of this element and all its descendants without
+     * writing them.
+     *
+     * @return A new list with all imports of the tree
+     * @see #accept(TsElementVisitor)
+     */
+    public TsImportList collectImports() {
+        TsImportList imports = new TsImportList();
+        accept(element -> {
+            TsImportList elementImports = element.getImportList();
+            if (!elementImports.isEmpty()) {
+                imports.addAll(elementImports);
+            }
+            return true;
+        });
+        return imports;
+    }
+
+    private Iterator<TsElement<?>> children() {
+        List<TsElement<?>> children = new ArrayList<>();
+        if (beforeElementContent != null) {
+            children.addAll(beforeElementContent);
+        }
+        forEachChild(children::add);
+        if (afterElementContent != null) {
+            children.addAll(afterElementContent);
+        }
+        return children.iterator();
+    }
+
+    /**
+     * Passes the direct children of the implementation to the given action, in the
+     * order they are written. The before and after element content is handled by
+     * {@link #accept(TsElementVisitor)}.
+     *
+     * @param action The action to call for every child
+     */
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+    }
+
+    /**
+     * Passes the given child to the action, if present
+     *
+     * @param child  The child or <code>null</code>
+     * @param action The action of {@link #forEachChild(Consumer)}
+     */
+    protected static void visitChild(TsElement<?> child, Consumer<TsElement<?>> action) {
+        if (child != null) {
+            action.accept(child);
+        }
+    }
+
+    /**
+     * Implementations have to call this function before any field is modified.
+     *
+     * @throws FrozenElementException if this element has been {@link #freeze() frozen}
+     */
+    protected void ensureNotFrozen() {
+        if (frozen) {
+            throw new FrozenElementException();
+        }
+    }
+
     /**
      * <p>
      * This will build the declared TypeScript elements.
@@ -79,7 +260,64 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Your defined TypeScript elements as a string.
      */
     public String build(TsContext context) {
-        return wrap(createWriter(context)).build();
+        return context.capture(() -> write(context));
+    }
+
+    /**
+     * <p>
+     * This will write the declared TypeScript elements into the
+     * {@link TsContext#getOutput() output} of the given context.
+     * </p>
+     * <b>Important:</b> This function will <u>not</u> print the imports.<br>
+     * If the element is {@link #freeze() frozen} and the context has a
+     * {@link TsContext#getRenderCache() render cache}, the cached output is written.
+     * <p>
+     * The layout of an element is owned by its writer, which writes the children
+     * itself. So writing is recursive and the depth of the tree is limited by the
+     * stack size of the writing thread: a stack of 1 MB holds roughly 1,000 nested
+     * elements. Deeper trees, like arrays nested thousands of times, need a thread
+     * with a larger stack (<code>-Xss</code>). Unions do not nest, see
+     * {@link de.mlo.dev.tsbuilder.elements.type.TsUnionType TsUnionType}.
+     * {@link #accept(TsElementVisitor)} and {@link #collectImports()} do not depend
+     * on the depth.
+     * </p>
+     *
+     * @param context The context to write to. The context can control how to
+     *                generate the TypeScript elements.
+     */
+    public void write(TsContext context) {
+        write(context, true);
+    }
+
+    /**
+     * Same as {@link #write(TsContext)} but without the
+     * {@link #getBeforeElementContent() before} and {@link #getAfterElementContent() after}
+     * element content. Used by the lists which separate their elements.
+     *
+     * @param context The context to write to
+     */
+    public void writeElement(TsContext context) {
+        write(context, false);
+    }
+
+    private void write(TsContext context, boolean surroundings) {
+        TsRenderCache renderCache = context.getRenderCache();
+        if (renderCache != null && frozen && !context.isRetainElements()) {
+            renderCache.write(this, context, surroundings);
+        } else {
+            writeUncached(context, surroundings);
+        }
+    }
+
+    void writeUncached(TsContext context, boolean surroundings) {
+        TsElementWriter<E> writer = createWriter(context);
+        if (surroundings) {
+            writer.writeBeforeElementContent();
+        }
+        writer.write();
+        if (surroundings) {
+            writer.writeAfterElementContent();
+        }
     }
 
     /**
@@ -103,28 +341,111 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Your defined TypeScript elements as a string.
      */
     public String buildWithImports(TsContext context) {
-        return new WithImportWriter(context, this, wrap(createWriter(context))).build().strip();
+        // The imports are collected while writing the content. So the
+        // content has to be written first, but it is printed afterwards.
+        String content = build(context);
+        return (context.compileImports() + content).strip();
     }
 
     /**
-     * Wraps a {@link TsElementWriter} in a new {@link TsElementWriter} which adds the
-     * declared elements to print before and after 'this' element.
+     * <p>
+     * This will write the declared TypeScript elements including all defined imports
+     * into the {@link TsContext#getOutput() output} of the given context. The result
+     * is the same as {@link #buildWithImports(TsContext)}.
+     * </p>
+     * <p>
+     * The imports have to be printed first. They are {@link #collectImports() collected}
+     * from the tree beforehand, together with the imports the
+     * {@link TsContext#getTypeRegistry() type registry} knows for the
+     * {@link #forEachTypeReference(Consumer) referenced types}, so the elements are
+     * written once, straight into the output. Only if an element
+     * {@link #createsElementsWhileWriting() creates elements while writing}, its
+     * imports are not known in advance and the content is written into memory first.
+     * </p>
      *
-     * @param delegate The {@link TsElementWriter} of the {@link TsElement} implementation
-     * @param <E>      The implementation type of the {@link TsElement}
-     * @return The {@link TsElementWriter} which will add the output for elements
-     * before and after 'this' element
+     * @param context The context to write to. The context can control how to
+     *                generate the TypeScript elements.
      */
-    private static <E extends TsElement<E>> TsElementWriter<E> wrap(TsElementWriter<E> delegate) {
-        return new TsElementWriter<>(delegate.getContext(), delegate.getElement()) {
-            @Override
-            public String build() {
-                String beforeElementContent = buildBeforeElementContent();
-                String content = delegate.build();
-                String afterElementContent = buildAfterElementContent();
-                return beforeElementContent + content + afterElementContent;
+    public void writeWithImports(TsContext context) {
+        TsTypeRegistry typeRegistry = context.getTypeRegistry();
+        Set<String> ownTypes = findDeclaredTypes();
+        Set<String> declaredTypes = ownTypes.isEmpty() ? context.getDeclaredTypes() : ownTypes;
+        TsImportList imports = new TsImportList();
+        boolean[] importsComplete = {true};
+        accept(element -> {
+            TsImportList elementImports = element.getImportList();
+            if (!elementImports.isEmpty()) {
+                imports.addAll(elementImports);
             }
-        };
+            if (typeRegistry != null) {
+                element.forEachTypeReference(typeName -> typeRegistry.collectImports(typeName, declaredTypes, imports));
+            }
+            if (element.createsElementsWhileWriting()) {
+                importsComplete[0] = false;
+            }
+            return true;
+        });
+        if (importsComplete[0]) {
+            context.getImportList().addAll(imports);
+            String compiledImports = context.compileImports();
+            context.redirect(new StrippedOutput(context.getOutput()), () -> {
+                context.getOutput().append(compiledImports);
+                write(context);
+            });
+        } else {
+            String content = context.capture(() -> write(context));
+            String compiledImports = context.compileImports();
+            context.redirect(new StrippedOutput(context.getOutput()), () ->
+                    context.getOutput().append(compiledImports).append(content));
+        }
+    }
+
+    /**
+     * Passes the types which are referenced by this element itself to the given
+     * action, e.g. the name of the super class or a {@link Literal} at the position of
+     * a type. These are the types which are looked up in the
+     * {@link TsContext#getTypeRegistry() type registry} while writing, see
+     * {@link TsContext#addTypeReference(CharSequence)} and
+     * {@link TsContext#writeType(TsElement)}. The children pass their own references.
+     *
+     * @param action The action to call for every referenced type
+     */
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+    }
+
+    /**
+     * Passes the given element to the action of {@link #forEachTypeReference(Consumer)},
+     * if it is written with {@link TsContext#writeType(TsElement)} and looked up as a
+     * {@link Literal}
+     *
+     * @param type   The element at the position of a type or <code>null</code>
+     * @param action The action of {@link #forEachTypeReference(Consumer)}
+     */
+    protected static void visitType(TsElement<?> type, Consumer<CharSequence> action) {
+        if (type instanceof Literal literal) {
+            action.accept(literal.getLiteral());
+        }
+    }
+
+    /**
+     * The types which are declared by this element, like the classes of a file. The
+     * {@link TsContext#getTypeRegistry() type registry} does not import declared types.
+     *
+     * @return The names of the declared types
+     */
+    protected Set<String> findDeclaredTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Elements which create further elements while they are written, like the items
+     * of a {@link de.mlo.dev.tsbuilder.elements.values.StreamingArrayValue StreamingArrayValue},
+     * may add imports which are not part of the tree.
+     *
+     * @return <code>true</code> if {@link #collectImports()} may miss imports of this element
+     */
+    protected boolean createsElementsWhileWriting() {
+        return false;
     }
 
     /**
@@ -149,9 +470,7 @@ public abstract class TsElement<E extends TsElement<E>> {
      * {@link TsImport#addModuleName(String)}
      */
     public TsImport addImport(String module, String fromPath) {
-        TsImport tsImport = new TsImport(module, fromPath);
-        addImport(tsImport);
-        return tsImport;
+        return mutableImportList().addImport(module, fromPath);
     }
 
     /**
@@ -170,11 +489,14 @@ public abstract class TsElement<E extends TsElement<E>> {
      * import {ModuleName} from './path/to/module';
      * }</pre>
      *
+     * The import is bound to the imports of this element, so module names which are
+     * added later by {@link TsImport#addModuleName(String)} are imported as well.
+     *
      * @param tsImport The import with module and path
      * @return Instance of this {@link TsElement}
      */
     public E addImport(TsImport tsImport) {
-        importList.add(tsImport);
+        mutableImportList().addImport(tsImport);
         return (E) this;
     }
 
@@ -198,7 +520,7 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Instance of this {@link TsElement}
      */
     public E addImports(Collection<TsImport> imports) {
-        importList.addAll(imports);
+        mutableImportList().addAll(imports);
         return (E) this;
     }
 
@@ -210,7 +532,7 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Instance of this {@link TsElement}
      */
     public E addBeforeElementContent(TsElement<?> beforeElementContent) {
-        this.beforeElementContent.add(beforeElementContent);
+        mutableBeforeElementContent().add(beforeElementContent);
         return (E) this;
     }
 
@@ -222,7 +544,7 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Instance of this {@link TsElement}
      */
     public E addBeforeElementContent(Collection<TsElement<?>> beforeElementContentList) {
-        this.beforeElementContent.addAll(beforeElementContentList);
+        mutableBeforeElementContent().addAll(beforeElementContentList);
         return (E) this;
     }
 
@@ -234,7 +556,7 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Instance of this {@link TsElement}
      */
     public E addAfterElementContent(TsElement<?> afterElementContent) {
-        this.afterElementContent.add(afterElementContent);
+        mutableAfterElementContent().add(afterElementContent);
         return (E) this;
     }
 
@@ -246,7 +568,60 @@ public abstract class TsElement<E extends TsElement<E>> {
      * @return Instance of this {@link TsElement}
      */
     public E addAfterElementContent(Collection<TsElement<?>> afterElementContentList) {
-        this.afterElementContent.addAll(afterElementContentList);
+        mutableAfterElementContent().addAll(afterElementContentList);
         return (E) this;
     }
+
+    /**
+     * @return The elements which are written before this element. An element without
+     * before content returns a shared, frozen empty list. Use
+     * {@link #addBeforeElementContent(TsElement)} to add content.
+     */
+    public TsElementList getBeforeElementContent() {
+        return beforeElementContent == null ? EMPTY_ELEMENT_LIST : beforeElementContent;
+    }
+
+    /**
+     * @return The elements which are written after this element. An element without
+     * after content returns a shared, frozen empty list. Use
+     * {@link #addAfterElementContent(TsElement)} to add content.
+     */
+    public TsElementList getAfterElementContent() {
+        return afterElementContent == null ? EMPTY_ELEMENT_LIST : afterElementContent;
+    }
+
+    /**
+     * @return The imports of this element. An element without imports returns a
+     * shared, frozen empty list. Use {@link #addImport(TsImport)} to add imports.
+     */
+    public TsImportList getImportList() {
+        return importList == null ? EMPTY_IMPORT_LIST : importList;
+    }
+
+    private TsElementList mutableBeforeElementContent() {
+        ensureNotFrozen();
+        if (beforeElementContent == null) {
+            beforeElementContent = new TsElementList();
+        }
+        return beforeElementContent;
+    }
+
+    private TsElementList mutableAfterElementContent() {
+        ensureNotFrozen();
+        if (afterElementContent == null) {
+            afterElementContent = new TsElementList();
+        }
+        return afterElementContent;
+    }
+
+    private TsImportList mutableImportList() {
+        ensureNotFrozen();
+        if (importList == null) {
+            importList = new TsImportList();
+        }
+        return importList;
+    }
+
+    private record Visit(TsElement<?> element, Iterator<TsElement<?>> children) {
+    }
 }
@@ -6,7 +6,8 @@ import java.util.function.BiConsumer;
 @SuppressWarnings("unchecked")
 public abstract class TsElementContainer<T extends TsElementContainer<T>> extends TsDeclarativeElement<T> {
 
-    private BiConsumer<TsElementList, TsElementList> contentResolver = (TsElementList list, TsElementList c) -> {
+    // only used while merging, it is not part of the rendered model
+    private transient BiConsumer<TsElementList, TsElementList> contentResolver = (TsElementList list, TsElementList c) -> {
         if(!list.equals(c)){
             list.addAll(c);
         }
@@ -32,11 +33,16 @@ public abstract class TsElementContainer<T extends TsElementContainer<T>> extend
 
 
     public T mergeContent(T other, BiConsumer<TsElementList, TsElementList> contentResolver){
+        if (other == this) {
+            return (T) this;
+        }
         TsElementList thisContentList = this.getContentList();
         contentResolver.accept(thisContentList, other.getContentList());
         TsElementList resolved = thisContentList.resolveDuplications();
-        thisContentList.clear();
-        thisContentList.addAll(resolved);
+        if (resolved.size() != thisContentList.size()) {
+            thisContentList.clear();
+            thisContentList.addAll(resolved);
+        }
         return (T) this;
     }
 
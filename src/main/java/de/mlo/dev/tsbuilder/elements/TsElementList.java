@@ -1,19 +1,79 @@
 package de.mlo.dev.tsbuilder.elements;
 
+import de.mlo.dev.tsbuilder.elements.common.FreezableList;
 import de.mlo.dev.tsbuilder.elements.function.TsMethod;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
-public class TsElementList extends ArrayList<TsElement<?>> {
+public class TsElementList extends FreezableList<TsElement<?>> {
+
+    private transient Map<String, List<TsMethod>> methodIndex;
+    private transient int methodIndexModCount;
 
     public String build(TsContext context) {
-        return resolveDuplications()
-                .stream()
-                .map(element -> element.build(context))
-                .collect(Collectors.joining("\n"));
+        return context.capture(() -> write(context));
+    }
+
+    /**
+     * Writes all elements of this list separated by a line break into the
+     * {@link TsContext#getOutput() output} of the given context. Duplicated
+     * elements will be {@link #resolveDuplications() resolved} before and the
+     * dropped elements are removed from this list. Otherwise, writing the list
+     * a second time would merge the already merged elements again.
+     *
+     * @param context The context to write to
+     */
+    public void write(TsContext context) {
+        if (!isFrozen()) {
+            resolveDuplicationsInPlace();
+        }
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                context.getOutput().append('\n');
+            }
+            get(i).write(context);
+        }
+    }
+
+    private void resolveDuplicationsInPlace() {
+        TsElementList resolved = resolveDuplications();
+        if (resolved.size() != size()) {
+            clear();
+            addAll(resolved);
+        }
+    }
+
+    /**
+     * Same as {@link #freeze(boolean) freeze(true)}
+     */
+    @Override
+    public void freeze() {
+        freeze(true);
+    }
+
+    /**
+     * Freezes all elements of this list and the list itself.
+     *
+     * @param resolveDuplications <code>true</code> if the duplicated elements have
+     *                            to be {@link #resolveDuplications() resolved} before,
+     *                            because the list is {@link #write(TsContext) written}
+     *                            as a whole and cannot be resolved while writing anymore.
+     */
+    public void freeze(boolean resolveDuplications) {
+        if (isFrozen()) {
+            return;
+        }
+        if (resolveDuplications) {
+            resolveDuplicationsInPlace();
+        }
+        super.freeze();
+        getMethodIndex();
     }
 
     /**
@@ -33,6 +93,12 @@ public class TsElementList extends ArrayList<TsElement<?>> {
      * different parameters.
      * </p>
      *
+     * <p>
+     * Merge candidates are looked up by their {@link TsDeclarativeElement#getMergeKey()
+     * merge key}, so the list is resolved in linear time. The order of the
+     * remaining elements stays the same.
+     * </p>
+     *
      * @return A resolved list without duplications
      * @throws MergeException if it is simply not possible to merge two
      * elements together
@@ -40,54 +106,120 @@ public class TsElementList extends ArrayList<TsElement<?>> {
     @SuppressWarnings({"unchecked", "rawtypes"})
     TsElementList resolveDuplications(){
         TsElementList merged = new TsElementList();
-        TsElementList dropped = new TsElementList();
-        for (int i = 0; i < size(); i++) {
-            TsElement<?> first = get(i);
-            if(dropped.contains(first)){
-                continue;
-            }
-
-            // "i + 1" because previous elements has been already processed
-            // and should be in the 'merged' list
-            for (int j = i + 1; j < size(); j++) {
-                TsElement<?> second = get(j);
-                if(first instanceof TsDeclarativeElement firstContentMerger
-                        && second instanceof TsDeclarativeElement secondContentMerger
-                        && first.getClass().isAssignableFrom(second.getClass())
-                        && firstContentMerger.isMergeRequired((TsDeclarativeElement) second)){
-                    firstContentMerger.merge(secondContentMerger);
-                    dropped.add(second);
+        Map<Object, List<TsDeclarativeElement>> mergeCandidates = new HashMap<>();
+        for (TsElement<?> element : this) {
+            if (element instanceof TsDeclarativeElement declarativeElement) {
+                List<TsDeclarativeElement> candidates = mergeCandidates.computeIfAbsent(
+                        declarativeElement.getMergeKey(), key -> new ArrayList<>(1));
+                if (mergeIntoCandidate(candidates, declarativeElement)) {
+                    continue;
                 }
+                candidates.add(declarativeElement);
             }
-            merged.add(first);
+            merged.add(element);
         }
         return merged;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> Stream<T> find(Class<T> elementType) {
-        return stream()
-                .filter(element -> elementType.isAssignableFrom(element.getClass()))
-                .map(element -> (T) element);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean mergeIntoCandidate(List<TsDeclarativeElement> candidates, TsDeclarativeElement element) {
+        for (TsDeclarativeElement candidate : candidates) {
+            if (candidate.getClass().isAssignableFrom(element.getClass())
+                    && candidate.isMergeRequired(element)) {
+                candidate.merge(element);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(TsElement<?> element) {
+        boolean methodIndexValid = isMethodIndexValid();
+        super.add(element);
+        if (methodIndexValid) {
+            indexMethod(element);
+            methodIndexModCount = modCount;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends TsElement<?>> elements) {
+        boolean methodIndexValid = isMethodIndexValid();
+        boolean changed = super.addAll(elements);
+        if (methodIndexValid) {
+            for (TsElement<?> element : elements) {
+                indexMethod(element);
+            }
+            methodIndexModCount = modCount;
+        }
+        return changed;
+    }
+
+    @Override
+    public TsElement<?> set(int index, TsElement<?> element) {
+        // set(...) is not a structural modification and does not change the modCount
+        methodIndex = null;
+        return super.set(index, element);
+    }
+
+    @Override
+    public Object clone() {
+        TsElementList clone = (TsElementList) super.clone();
+        clone.methodIndex = null;
+        return clone;
+    }
+
+    private boolean isMethodIndexValid() {
+        return methodIndex != null && methodIndexModCount == modCount;
+    }
+
+    private void indexMethod(TsElement<?> element) {
+        if (element instanceof TsMethod method) {
+            methodIndex.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+        }
+    }
+
+    /**
+     * The index is built on the first lookup and maintained while elements are
+     * appended. Any other modification of this list invalidates the index, so it
+     * is rebuilt with the next lookup.
+     *
+     * @return All methods of this list by their name in the order of this list
+     */
+    private Map<String, List<TsMethod>> getMethodIndex() {
+        if (!isMethodIndexValid()) {
+            methodIndex = new HashMap<>();
+            for (TsElement<?> element : this) {
+                indexMethod(element);
+            }
+            methodIndexModCount = modCount;
+        }
+        return methodIndex;
+    }
+
+    private Optional<TsMethod> findMethod(String name, Predicate<TsMethod> filter) {
+        List<TsMethod> methods = getMethodIndex().get(name);
+        if (methods != null) {
+            for (TsMethod method : methods) {
+                if (filter.test(method)) {
+                    return Optional.of(method);
+                }
+            }
+        }
+        return Optional.empty();
     }
 
     public Optional<TsMethod> findMethod(String name){
-        return find(TsMethod.class)
-                .filter(method -> name.equals(method.getName()))
-                .findFirst();
+        return findMethod(name, method -> true);
     }
 
     public Optional<TsMethod> findSetterMethod(String name){
-        return find(TsMethod.class)
-                .filter(method -> name.equals(method.getName()))
-                .filter(TsMethod::isSetter)
-                .findFirst();
+        return findMethod(name, TsMethod::isSetter);
     }
 
     public Optional<TsMethod> findGetterMethod(String name){
-        return find(TsMethod.class)
-                .filter(method -> name.equals(method.getName()))
-                .filter(TsMethod::isGetter)
-                .findFirst();
+        return findMethod(name, TsMethod::isGetter);
     }
 }
@@ -0,0 +1,36 @@
+package de.mlo.dev.tsbuilder.elements;
+
+/**
+ * <p>
+ * Visits the elements of a tree, see {@link TsElement#accept(TsElementVisitor)}.
+ * </p>
+ * <pre>{@code
+ * List<TsMethod> methods = new ArrayList<>();
+ * file.accept(element -> {
+ *     if (element instanceof TsMethod method) {
+ *         methods.add(method);
+ *     }
+ *     return true;
+ * });
+ * }</pre>
+ */
+@FunctionalInterface
+public interface TsElementVisitor {
+
+    /**
+     * Called before the children of the element are visited
+     *
+     * @param element The visited element
+     * @return <code>true</code> if the children of the element have to be visited
+     */
+    boolean enter(TsElement<?> element);
+
+    /**
+     * Called after all children of the element have been visited, or right
+     * after {@link #enter(TsElement)} if the children are skipped.
+     *
+     * @param element The visited element
+     */
+    default void leave(TsElement<?> element) {
+    }
+}
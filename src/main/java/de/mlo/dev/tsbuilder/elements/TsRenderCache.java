@@ -0,0 +1,172 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+import de.mlo.dev.tsbuilder.elements.imports.TsTypeRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Memoizes the rendered output of {@link TsElement#freeze() frozen} elements.
+ * A frozen element cannot change anymore, so it is rendered only once per
+ * indent setting and every further {@link TsElement#write(TsContext) write}
+ * appends the cached text and imports. Mutable elements are never cached.
+ * </p>
+ * <p>
+ * The cache is disabled by default and has to be set with
+ * {@link TsContext#setRenderCache(TsRenderCache)}. The entries are keyed by
+ * the identity of the element and the least recently used entries are evicted
+ * if the cache exceeds its maximum size. One cache can be shared by several
+ * contexts and threads. Contexts with different
+ * {@link TsContext#getTypeRegistry() type registries} or declared types use separate entries.
+ * </p>
+ * <p>
+ * A type registry which is modified after elements have been cached gets a new
+ * {@link TsTypeRegistry#getVersion() version}, so the elements are rendered again
+ * with the current types. The declared types of a file are
+ * {@link #intern(Set) interned} when they are
+ * {@link TsContext#declareTypes(Set, Runnable) declared}, so the entries compare
+ * them by identity instead of hashing the whole set on every write.
+ * </p>
+ */
+public class TsRenderCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<Key, Entry> entries;
+    private final Map<Set<String>, Set<String>> declaredTypeSets = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TsRenderCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize The maximum number of cached elements
+     */
+    public TsRenderCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1 but was " + maxSize);
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Appends the cached output of the given frozen element to the output of the
+     * context and adds its imports. The element is rendered on the first call.
+     *
+     * @param element      A frozen element
+     * @param context      The context to write to
+     * @param surroundings Whether the before and after element content is written
+     */
+    void write(TsElement<?> element, TsContext context, boolean surroundings) {
+        TsTypeRegistry typeRegistry = context.getTypeRegistry();
+        Set<String> declaredTypes = typeRegistry == null ? Set.of() : context.getDeclaredTypes();
+        long typeRegistryVersion = typeRegistry == null ? 0 : typeRegistry.getVersion();
+        Key key = new Key(element, context.getIndent(), surroundings, typeRegistry, typeRegistryVersion, declaredTypes);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            entry = render(element, context, surroundings, declaredTypes);
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+        if (!entry.imports().isEmpty()) {
+            context.getImportList().addAll(entry.imports());
+        }
+        context.getOutput().append(entry.text());
+    }
+
+    private Entry render(TsElement<?> element, TsContext context, boolean surroundings, Set<String> declaredTypes) {
+        // the element is rendered into its own context to separate its imports
+        StringBuilder sb = new StringBuilder();
+        TsContext elementContext = new TsContext(sb);
+        elementContext.setIndent(context.getIndent());
+        elementContext.setRenderCache(this);
+        elementContext.setTypeRegistry(context.getTypeRegistry());
+        elementContext.declareTypes(declaredTypes, () -> element.writeUncached(elementContext, surroundings));
+        TsImportList imports = elementContext.getImportList();
+        imports.freeze();
+        return new Entry(sb.toString(), imports);
+    }
+
+    /**
+     * @param declaredTypes The declared types of a file
+     * @return The first set of this cache which is equal to the given set
+     */
+    Set<String> intern(Set<String> declaredTypes) {
+        Set<String> interned = declaredTypeSets.putIfAbsent(declaredTypes, declaredTypes);
+        return interned == null ? declaredTypes : interned;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all entries and resets the counters
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        declaredTypeSets.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private record Entry(String text, TsImportList imports) {
+    }
+
+    /**
+     * The declared types are compared by identity, equal sets are {@link #intern(Set) interned}
+     */
+    private record Key(TsElement<?> element, int indent, boolean surroundings, TsTypeRegistry typeRegistry,
+                       long typeRegistryVersion, Set<String> declaredTypes) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && element == other.element
+                    && indent == other.indent
+                    && surroundings == other.surroundings
+                    && typeRegistry == other.typeRegistry
+                    && typeRegistryVersion == other.typeRegistryVersion
+                    && declaredTypes == other.declaredTypes;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * (31 * System.identityHashCode(element) + indent) + Boolean.hashCode(surroundings);
+            hash = 31 * hash + System.identityHashCode(typeRegistry);
+            hash = 31 * hash + Long.hashCode(typeRegistryVersion);
+            return 31 * hash + System.identityHashCode(declaredTypes);
+        }
+    }
+}
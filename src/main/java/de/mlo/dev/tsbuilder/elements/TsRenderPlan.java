@@ -0,0 +1,245 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.TsOutput;
+import de.mlo.dev.tsbuilder.elements.imports.TsImport;
+import de.mlo.dev.tsbuilder.elements.imports.TsImportList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A template of an element which has been rendered once and can be rendered again
+ * with different values for its slots. Useful if the same shape, e.g. an entity
+ * class with its fields and methods, is generated for many models which only differ
+ * by names and types.
+ * </p>
+ * <pre>{@code
+ * TsRenderPlan plan = TsRenderPlan.compile(slots -> new TsClass(slots.slot("name"))
+ *         .addField(new TsField("id", slots.slot("idType"))));
+ * String code = plan.build(Map.of("name", "User", "idType", "number"));
+ * }</pre>
+ * <p>
+ * While compiling, every slot is rendered as a marker of private use characters.
+ * The output is split at the markers into a flat list of text segments, so
+ * rendering the plan only concatenates the segments and the bound values without
+ * creating any elements or writers. Slots can be used in imports as well.
+ * </p>
+ * <p>
+ * The values are inserted as they are. The output is the same as rendering the
+ * element with the values, as long as the values are not transformed while
+ * rendering (e.g. escaped string literals) and the template does not depend on
+ * them (e.g. two methods which become duplicates with the bound names).
+ * </p>
+ * <p>
+ * A plan is immutable and can be used by several threads.
+ * </p>
+ */
+public class TsRenderPlan {
+
+    private static final char MARKER = '\uE000';
+    private static final char FIRST_SLOT = '\uE001';
+    private static final int MAX_SLOTS = '\uF8FF' - FIRST_SLOT + 1;
+
+    private final List<String> slotNames;
+    private final int indent;
+    private final Text content;
+    private final List<Text[]> imports;
+
+    private TsRenderPlan(List<String> slotNames, int indent, Text content, List<Text[]> imports) {
+        this.slotNames = slotNames;
+        this.indent = indent;
+        this.content = content;
+        this.imports = imports;
+    }
+
+    /**
+     * Compiles the plan with the default indent of a {@link TsContext}.
+     *
+     * @param template Creates the element, using {@link Slots#slot(String)} for every variable part
+     * @return The compiled plan
+     */
+    public static TsRenderPlan compile(Function<Slots, ? extends TsElement<?>> template) {
+        return compile(template, new TsContext().getIndent());
+    }
+
+    /**
+     * @param template Creates the element, using {@link Slots#slot(String)} for every variable part
+     * @param indent   The indent the plan is rendered with
+     * @return The compiled plan
+     */
+    public static TsRenderPlan compile(Function<Slots, ? extends TsElement<?>> template, int indent) {
+        Slots slots = new Slots();
+        TsElement<?> element = template.apply(slots);
+        List<String> slotNames = List.copyOf(slots.names.keySet());
+
+        TsContext context = new TsContext();
+        context.setIndent(indent);
+        Text content = Text.parse(element.build(context), slotNames);
+        List<Text[]> imports = new ArrayList<>();
+        for (TsImport tsImport : context.getImportList()) {
+            Text fromPath = Text.parse(tsImport.getFromPath(), slotNames);
+            for (String moduleName : tsImport.getModuleNames()) {
+                imports.add(new Text[]{Text.parse(moduleName, slotNames), fromPath});
+            }
+        }
+        return new TsRenderPlan(slotNames, indent, content, List.copyOf(imports));
+    }
+
+    /**
+     * @return The names of all slots in the order of their first usage
+     */
+    public List<String> getSlotNames() {
+        return slotNames;
+    }
+
+    public int getIndent() {
+        return indent;
+    }
+
+    /**
+     * Writes the plan into the {@link TsContext#getOutput() output} of the given
+     * context and adds the imports to the context.
+     *
+     * @param context  The context to write to. Must use the indent of the plan.
+     * @param bindings The value of every slot
+     * @throws IllegalArgumentException if a slot is not bound or the indent differs
+     */
+    public void write(TsContext context, Map<String, ?> bindings) {
+        if (context.getIndent() != indent) {
+            throw new IllegalArgumentException("The plan has been compiled with an indent of " + indent
+                    + " but the context uses " + context.getIndent());
+        }
+        String[] values = bind(bindings);
+        if (!imports.isEmpty()) {
+            TsImportList importList = context.getImportList();
+            for (Text[] tsImport : imports) {
+                importList.add(tsImport[0].toString(values), tsImport[1].toString(values));
+            }
+        }
+        content.append(context.getOutput(), values);
+    }
+
+    /**
+     * Same as {@link TsElement#build()} for the element with the bound values
+     *
+     * @param bindings The value of every slot
+     * @return The rendered code without imports
+     */
+    public String build(Map<String, ?> bindings) {
+        return content.toString(bind(bindings));
+    }
+
+    /**
+     * Same as {@link TsElement#buildWithImports()} for the element with the bound values
+     *
+     * @param bindings The value of every slot
+     * @return The rendered code including the imports
+     */
+    public String buildWithImports(Map<String, ?> bindings) {
+        TsContext context = new TsContext();
+        context.setIndent(indent);
+        String code = context.capture(() -> write(context, bindings));
+        return (context.compileImports() + code).strip();
+    }
+
+    private String[] bind(Map<String, ?> bindings) {
+        String[] values = new String[slotNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            String name = slotNames.get(i);
+            Object value = bindings.get(name);
+            if (value == null) {
+                throw new IllegalArgumentException("No value bound to slot '" + name + "'");
+            }
+            values[i] = value.toString();
+        }
+        return values;
+    }
+
+    /**
+     * Creates the markers for the slots of a template
+     */
+    public static class Slots {
+
+        private final Map<String, String> names = new LinkedHashMap<>();
+
+        private Slots() {
+        }
+
+        /**
+         * @param name The name of the slot
+         * @return A placeholder to use instead of the value, e.g. as the name of an element.
+         * The same name always returns the same placeholder.
+         */
+        public String slot(String name) {
+            return names.computeIfAbsent(name, key -> {
+                if (names.size() == MAX_SLOTS) {
+                    throw new IllegalStateException("A plan supports at most " + MAX_SLOTS + " slots");
+                }
+                return String.valueOf(new char[]{MARKER, (char) (FIRST_SLOT + names.size())});
+            });
+        }
+    }
+
+    /**
+     * A rendered text split into constant segments with a slot between every two segments
+     */
+    private record Text(String[] segments, int[] slots) {
+
+        static Text parse(String text, List<String> slotNames) {
+            List<String> segments = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int start = 0;
+            int marker;
+            while ((marker = text.indexOf(MARKER, start)) >= 0) {
+                int slot = marker + 1 < text.length() ? text.charAt(marker + 1) - FIRST_SLOT : -1;
+                if (slot < 0 || slot >= slotNames.size()) {
+                    throw new IllegalStateException("Broken slot marker at index " + marker
+                            + ", the template must not modify the slot placeholders");
+                }
+                segments.add(text.substring(start, marker));
+                slots.add(slot);
+                start = marker + 2;
+            }
+            segments.add(text.substring(start));
+            return new Text(segments.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        void append(TsOutput output, String[] values) {
+            for (int i = 0; i < slots.length; i++) {
+                appendSegment(output, segments[i]);
+                output.append(values[slots[i]]);
+            }
+            appendSegment(output, segments[slots.length]);
+        }
+
+        private static void appendSegment(TsOutput output, String segment) {
+            if (!segment.isEmpty()) {
+                output.append(segment);
+            }
+        }
+
+        String toString(String[] values) {
+            if (slots.length == 0) {
+                return segments[0];
+            }
+            int length = 0;
+            for (String segment : segments) {
+                length += segment.length();
+            }
+            StringBuilder sb = new StringBuilder(length + 16 * slots.length);
+            for (int i = 0; i < slots.length; i++) {
+                sb.append(segments[i]).append(values[slots[i]]);
+            }
+            return sb.append(segments[slots.length]).toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsRenderPlan{slots=" + slotNames + ", indent=" + indent + '}';
+    }
+}
@@ -2,6 +2,7 @@ package de.mlo.dev.tsbuilder.elements.clazz;
 
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.*;
+import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.clazz.constructor.TsConstructor;
 import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
 import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
@@ -17,6 +18,7 @@ import lombok.experimental.Accessors;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * <pre>
@@ -74,10 +76,15 @@ public class TsClass extends TsElementContainer<TsClass> {
     }
 
     public TsClass setSuperClass(String superClassName) {
+        ensureNotFrozen();
         this.superClassName = superClassName;
         return this;
     }
 
+    public TsClass setSuperClassName(String superClassName) {
+        return setSuperClass(superClassName);
+    }
+
     public Optional<TsMethod> getMethod(String methodName) {
         return this.contentList.findMethod(methodName);
     }
@@ -155,6 +162,29 @@ public class TsClass extends TsElementContainer<TsClass> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        decoratorList.freeze();
+        modifierList.freeze();
+        implementsList.freeze();
+        contentList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        decoratorList.forEach(action);
+        modifierList.forEach(action);
+        contentList.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        if (superClassName != null) {
+            action.accept(superClassName);
+        }
+        implementsList.forEach(action);
+    }
+
     @Override
     public TsElementWriter<TsClass> createWriter(TsContext context) {
         return new TsClassWriter(context, this);
@@ -192,4 +222,9 @@ public class TsClass extends TsElementContainer<TsClass> {
     public boolean isMergeRequired(TsClass other) {
         return getName().equals(other.getName());
     }
+
+    @Override
+    public Object getMergeKey() {
+        return getName();
+    }
 }
@@ -11,52 +11,49 @@ public class TsClassWriter extends TsElementWriter<TsClass> {
     }
 
     @Override
-    public String build() {
-        String decorators = buildDecorators();
-        String modifier = buildModifier();
-        String name = getElement().getName();
-        String superClass = buildSuperClass();
-        String implementz = buildImplements();
-        String content = buildContent();
-
-        return decorators +
-                modifier + "class " + name + superClass + implementz + "{\n" +
-                indent(content) +
-                "}";
+    public void write() {
+        writeDecorators();
+        writeModifier();
+        getOutput().append("class ").append(getElement().getName());
+        writeSuperClass();
+        writeImplements();
+        getOutput().append("{\n");
+        writeIndented(this::writeContent);
+        getOutput().append('}');
     }
 
-    private String buildDecorators(){
+    private void writeDecorators(){
         TsDecoratorList decoratorList = getElement().getDecoratorList();
         if(!decoratorList.isEmpty()){
-            return decoratorList.build(getContext()) + "\n";
+            decoratorList.write(getContext());
+            getOutput().append('\n');
         }
-        return "";
     }
 
-    private String buildModifier(){
+    private void writeModifier(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    private String buildSuperClass(){
+    private void writeSuperClass(){
         if(getElement().getSuperClassName() != null){
-            return " extends " + getElement().getSuperClassName();
+            getContext().addTypeReference(getElement().getSuperClassName());
+            getOutput().append(" extends ").append(getElement().getSuperClassName());
         }
-        return "";
     }
 
-    private String buildImplements(){
+    private void writeImplements(){
         TsImplementsList implementsList = getElement().getImplementsList();
         if(!implementsList.isEmpty()){
-            return " implements " + implementsList.build(getContext());
+            getOutput().append(" implements ");
+            implementsList.write(getContext());
         }
-        return "";
     }
 
-    private String buildContent(){
-        return getElement().getContentList().build(getContext());
+    private void writeContent(){
+        getElement().getContentList().write(getContext());
     }
 }
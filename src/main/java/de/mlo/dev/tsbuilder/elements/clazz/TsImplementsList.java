@@ -1,12 +1,26 @@
 package de.mlo.dev.tsbuilder.elements.clazz;
 
+import de.mlo.dev.tsbuilder.TsOutput;
 import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 
-import java.util.LinkedHashSet;
-
-public class TsImplementsList extends LinkedHashSet<String> {
+public class TsImplementsList extends FreezableSet<String> {
 
     public String build(TsContext context) {
+        forEach(context::addTypeReference);
         return String.join(", ", this);
     }
+
+    public void write(TsContext context) {
+        TsOutput output = context.getOutput();
+        boolean first = true;
+        for (String interfaceName : this) {
+            if (!first) {
+                output.append(", ");
+            }
+            context.addTypeReference(interfaceName);
+            output.append(interfaceName);
+            first = false;
+        }
+    }
 }
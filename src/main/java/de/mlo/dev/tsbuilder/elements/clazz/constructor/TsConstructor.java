@@ -10,6 +10,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.function.Consumer;
+
 /**
  * This class describes how the constructor of a class looks like.
  * <ul>
@@ -121,6 +123,18 @@ public class TsConstructor extends TsElement<TsConstructor> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        parameterList.freeze();
+        contentList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        parameterList.forEach(action);
+        contentList.forEach(action);
+    }
+
     @Override
     public TsElementWriter<TsConstructor> createWriter(TsContext context) {
         return new TsConstructorWriter(context, this);
@@ -5,13 +5,14 @@ import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
 import de.mlo.dev.tsbuilder.elements.type.ComplexType;
-import de.mlo.dev.tsbuilder.elements.type.OrType;
 import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import de.mlo.dev.tsbuilder.elements.type.TsUnionType;
 import de.mlo.dev.tsbuilder.elements.values.Literal;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * This class describes one parameter for a constructor. The parameter must
@@ -162,6 +163,7 @@ public class TsConstructorParameter extends TsElement<TsConstructorParameter> {
      * @return Instance of this {@link TsConstructorParameter}
      */
     public TsConstructorParameter setType(TsElement<?> type) {
+        ensureNotFrozen();
         this.type = type;
         return this;
     }
@@ -174,8 +176,23 @@ public class TsConstructorParameter extends TsElement<TsConstructorParameter> {
         return addOrType(Literal.literal(literal));
     }
 
+    /**
+     * Adds the given type to the type of this parameter as a {@link TsUnionType union}.
+     * If the type is already a mutable union, the type is added to it.
+     * <pre>
+     *     payment: number | Salary
+     * </pre>
+     *
+     * @param type Any type
+     * @return Instance of this {@link TsConstructorParameter}
+     */
     public TsConstructorParameter addOrType(TsElement<?> type) {
-        return setType(new OrType(this.type, type));
+        ensureNotFrozen();
+        if (this.type instanceof TsUnionType union && !union.isFrozen()) {
+            union.add(type);
+            return this;
+        }
+        return setType(this.type == null ? TsUnionType.of(type) : TsUnionType.of(this.type, type));
     }
 
     public TsConstructorParameter setNullable() {
@@ -208,10 +225,28 @@ public class TsConstructorParameter extends TsElement<TsConstructorParameter> {
      * @return Instance of this {@link TsConstructorParameter}
      */
     public TsConstructorParameter setOptional(boolean optional) {
+        ensureNotFrozen();
         this.optional = optional;
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        modifierList.freeze();
+        freezeChild(type);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        modifierList.forEach(action);
+        visitChild(type, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(type, action);
+    }
+
     @Override
     public TsElementWriter<TsConstructorParameter> createWriter(TsContext context) {
         return new TsConstructorParameterWriter(context, this);
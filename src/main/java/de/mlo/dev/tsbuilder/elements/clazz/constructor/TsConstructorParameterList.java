@@ -1,16 +1,21 @@
 package de.mlo.dev.tsbuilder.elements.clazz.constructor;
 
-import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 
-import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
-
-public class TsConstructorParameterList extends LinkedHashSet<TsConstructorParameter> {
+public class TsConstructorParameterList extends FreezableSet<TsConstructorParameter> {
     public String build(TsContext context) {
-        return stream()
-                .map(element -> element.createWriter(context))
-                .map(TsElementWriter::build)
-                .collect(Collectors.joining(", "));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context) {
+        boolean first = true;
+        for (TsConstructorParameter parameter : this) {
+            if (!first) {
+                context.getOutput().append(", ");
+            }
+            parameter.writeElement(context);
+            first = false;
+        }
     }
 }
@@ -12,32 +12,30 @@ public class TsConstructorParameterWriter extends TsElementWriter<TsConstructorP
     }
 
     @Override
-    public String build() {
-        String modifiers = buildModifiers();
-        String name = buildName();
-        String type = buildType();
-
-        return modifiers + name + ": " + type;
+    public void write() {
+        writeModifiers();
+        writeName();
+        getOutput().append(": ");
+        writeType();
     }
 
-    private String buildModifiers(){
+    private void writeModifiers(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    private String buildName(){
-        String name = getElement().getName();
+    private void writeName(){
+        getOutput().append(getElement().getName());
         if(getElement().isOptional()){
-            return name + "?";
+            getOutput().append('?');
         }
-        return name;
     }
 
-    private String buildType(){
+    private void writeType(){
         TsElement<?> type = getElement().getType();
-        return type.build(getContext());
+        getContext().writeType(type);
     }
 }
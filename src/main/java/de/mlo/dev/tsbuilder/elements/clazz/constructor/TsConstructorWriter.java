@@ -10,17 +10,19 @@ public class TsConstructorWriter extends TsElementWriter<TsConstructor> {
     }
 
     @Override
-    public String build() {
-        String parameter = buildParameter();
-        String content = buildContent();
-        return "constructor (" + parameter + "){\n" + indent(content) + "}";
+    public void write() {
+        getOutput().append("constructor (");
+        writeParameter();
+        getOutput().append("){\n");
+        writeIndented(this::writeContent);
+        getOutput().append('}');
     }
 
-    private String buildParameter(){
-        return getElement().getParameterList().build(getContext());
+    private void writeParameter(){
+        getElement().getParameterList().write(getContext());
     }
 
-    private String buildContent(){
-        return getElement().getContentList().build(getContext());
+    private void writeContent(){
+        getElement().getContentList().write(getContext());
     }
 }
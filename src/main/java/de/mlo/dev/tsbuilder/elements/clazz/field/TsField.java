@@ -12,14 +12,23 @@ import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
 import de.mlo.dev.tsbuilder.elements.function.TsMethod;
 import de.mlo.dev.tsbuilder.elements.type.ComplexType;
 import de.mlo.dev.tsbuilder.elements.type.TsSimpleType;
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
 import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import de.mlo.dev.tsbuilder.elements.type.TsUnionType;
 import de.mlo.dev.tsbuilder.elements.values.ArrayValue;
+import de.mlo.dev.tsbuilder.elements.values.DoubleArrayValue;
+import de.mlo.dev.tsbuilder.elements.values.IntArrayValue;
 import de.mlo.dev.tsbuilder.elements.values.Literal;
+import de.mlo.dev.tsbuilder.elements.values.LongArrayValue;
 import de.mlo.dev.tsbuilder.elements.values.NumberValue;
+import de.mlo.dev.tsbuilder.elements.values.PrimitiveArrayValue;
+import de.mlo.dev.tsbuilder.elements.values.StringArrayValue;
 import de.mlo.dev.tsbuilder.elements.values.StringValue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class TsField extends TsDeclarativeElement<TsField> {
@@ -96,6 +105,10 @@ public class TsField extends TsDeclarativeElement<TsField> {
         return stringArray(name).setStringArrayValue(values);
     }
 
+    public static TsField stringArray(String name, StringArrayValue values) {
+        return stringArray(name).setStringArrayValue(values);
+    }
+
     public static TsField emptyStringArray(String name) {
         return stringArray(name, new String[0]);
     }
@@ -136,6 +149,32 @@ public class TsField extends TsDeclarativeElement<TsField> {
         return numberArray(name).setNumberArrayValues(values);
     }
 
+    public static TsField numberArray(String name, int[] values) {
+        return numberArray(name).setNumberArrayValues(new IntArrayValue(values));
+    }
+
+    public static TsField numberArray(String name, long[] values) {
+        return numberArray(name).setNumberArrayValues(new LongArrayValue(values));
+    }
+
+    public static TsField numberArray(String name, double[] values) {
+        return numberArray(name).setNumberArrayValues(new DoubleArrayValue(values));
+    }
+
+    /**
+     * <pre>{@code
+     * name: Float64Array = new Float64Array([1.0, 2.5]);
+     * }</pre>
+     *
+     * @param name       The name of the field
+     * @param typedArray The typed array to initialize
+     * @param values     The values of the typed array
+     * @return A new {@link TsField}
+     */
+    public static TsField typedArray(String name, TsTypedArray typedArray, PrimitiveArrayValue<?> values) {
+        return new TsField(name).setNumberArrayValues(values.asTypedArray(typedArray));
+    }
+
     public static TsField emptyNumberArray(String name) {
         return numberArray(name).setNumberArrayValues(new String[0]);
     }
@@ -173,10 +212,35 @@ public class TsField extends TsDeclarativeElement<TsField> {
     }
 
     public TsField setType(TsElement<?> type) {
+        ensureNotFrozen();
         this.type = type;
         return this;
     }
 
+    public TsField addOrType(String literal) {
+        return addOrType(Literal.literal(literal));
+    }
+
+    /**
+     * Adds the given type to the type of this field as a {@link TsUnionType union}.
+     * If the type is already a mutable union, the type is added to it.
+     *
+     * @param type Any type
+     * @return Instance of this {@link TsField}
+     */
+    public TsField addOrType(TsElement<?> type) {
+        ensureNotFrozen();
+        if (this.type instanceof TsUnionType union && !union.isFrozen()) {
+            union.add(type);
+            return this;
+        }
+        return setType(this.type == null ? TsUnionType.of(type) : TsUnionType.of(this.type, type));
+    }
+
+    public TsField setNullable() {
+        return addOrType(TsTypes.NULL);
+    }
+
     /**
      * Applies a string value to the field. If the type was unset, the type becomes 'string'.
      *
@@ -203,6 +267,19 @@ public class TsField extends TsDeclarativeElement<TsField> {
         return setValue(new ArrayValue().addStrings(values));
     }
 
+    /**
+     * Applies a compact string array value to the field. If the type was unset, the type becomes 'string[]'.
+     *
+     * @param values A string array value. All values will be escaped and wrapped in single quotes
+     * @return Instance of this {@link TsField}
+     */
+    public TsField setStringArrayValue(StringArrayValue values) {
+        if (type == null) {
+            setType(TsTypes.STRING_ARRAY);
+        }
+        return setValue(values);
+    }
+
     /**
      * Applies a number value to the field. If the type was unset, the type becomes 'number'.
      *
@@ -255,6 +332,20 @@ public class TsField extends TsDeclarativeElement<TsField> {
         return setValue(new ArrayValue().addNumbers(values));
     }
 
+    /**
+     * Applies a number array value which is backed by a primitive array to the field.
+     * If the type was unset, the type becomes 'number[]' or the typed array of the value.
+     *
+     * @param values A number array value
+     * @return Instance of this {@link TsField}
+     */
+    public TsField setNumberArrayValues(PrimitiveArrayValue<?> values) {
+        if (type == null) {
+            setType(values.getType());
+        }
+        return setValue(values);
+    }
+
     /**
      * Applies a custom value to this field.
      *
@@ -262,6 +353,7 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @return Instance of this {@link TsField}
      */
     public TsField setValue(TsElement<?> value) {
+        ensureNotFrozen();
         this.value = value;
         return this;
     }
@@ -290,6 +382,7 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @return Instance of this {@link TsField}
      */
     public TsField setOptional(boolean optional) {
+        ensureNotFrozen();
         isOptional = optional;
         return this;
     }
@@ -316,6 +409,7 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @return Instance of this {@link TsField}
      */
     public TsField setNeverNull(boolean neverNull) {
+        ensureNotFrozen();
         this.isNeverNull = neverNull;
         return this;
     }
@@ -348,6 +442,7 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @return Instance of this {@link TsField}
      */
     public TsField setNamePrefix(String namePrefix) {
+        ensureNotFrozen();
         this.namePrefix = namePrefix;
         return this;
     }
@@ -413,6 +508,7 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @see #addSetter()
      */
     public TsField setSetter(TsMethod setter) {
+        ensureNotFrozen();
         this.setter = setter;
         addAfterElementContent(setter);
         return this;
@@ -455,11 +551,33 @@ public class TsField extends TsDeclarativeElement<TsField> {
      * @see #addGetter()
      */
     public TsField setGetter(TsMethod getter) {
+        ensureNotFrozen();
         this.getter = getter;
         addAfterElementContent(getter);
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        decoratorList.freeze();
+        freezeChild(type);
+        freezeChild(value);
+        freezeChild(setter);
+        freezeChild(getter);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        decoratorList.forEach(action);
+        visitChild(type, action);
+        visitChild(value, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(type, action);
+    }
+
     @Override
     public TsElementWriter<TsField> createWriter(TsContext context) {
         return new TsFieldWriter(context, this);
@@ -470,6 +588,11 @@ public class TsField extends TsDeclarativeElement<TsField> {
         return this.name.equals(other.name);
     }
 
+    @Override
+    public Object getMergeKey() {
+        return name;
+    }
+
     public TsField merge(TsField other){
         if(this.equals(other)){
             return this;
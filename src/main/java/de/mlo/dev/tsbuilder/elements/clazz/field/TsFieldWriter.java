@@ -12,45 +12,44 @@ public class TsFieldWriter extends TsElementWriter<TsField> {
     }
 
     @Override
-    public String build(){
-        String decorators = buildDecorators();
-        String name = buildName();
-        String type = buildType();
-        String value = buildValue();
-        return decorators + name + type + value +";";
+    public void write(){
+        writeDecorators();
+        writeName();
+        writeType();
+        writeValue();
+        getOutput().append(';');
     }
 
-    private String buildDecorators(){
+    private void writeDecorators(){
         TsDecoratorList decoratorList = getElement().getDecoratorList();
         if(!decoratorList.isEmpty()){
-            return decoratorList.build(getContext()) + "\n";
+            decoratorList.write(getContext());
+            getOutput().append('\n');
         }
-        return "";
     }
 
-    private String buildName(){
-        String name = getElement().getName();
+    private void writeName(){
+        getOutput().append(getElement().getNamePrefix()).append(getElement().getName());
         if(getElement().isOptional()){
-            name = name + "?";
+            getOutput().append('?');
         } else if(getElement().isNeverNull()){
-            name = name + "!";
+            getOutput().append('!');
         }
-        return getElement().getNamePrefix() + name;
     }
 
-    private String buildType(){
+    private void writeType(){
         TsElement<?> type = getElement().getType();
         if(type != null){
-            return ": " + type.build(getContext());
+            getOutput().append(": ");
+            getContext().writeType(type);
         }
-        return "";
     }
 
-    private String buildValue(){
+    private void writeValue(){
         TsElement<?> value = getElement().getValue();
         if(value != null){
-            return " = " + value.build();
+            getOutput().append(" = ");
+            value.write(getContext());
         }
-        return "";
     }
 }
@@ -0,0 +1,163 @@
+package de.mlo.dev.tsbuilder.elements.common;
+
+import de.mlo.dev.tsbuilder.elements.FrozenElementException;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A list which can be {@link #freeze() frozen}. A frozen list rejects any
+ * modification with a {@link FrozenElementException} and caches its hash code.
+ *
+ * @param <T> Type of the list elements
+ */
+public class FreezableList<T> extends ArrayList<T> {
+
+    private boolean frozen;
+    private int frozenHash;
+
+    /**
+     * Freezes all {@link TsElement elements} of this list and the list itself.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (T element : this) {
+            if (element instanceof TsElement<?> tsElement) {
+                tsElement.freeze();
+            }
+        }
+        frozenHash = super.hashCode();
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    protected void ensureNotFrozen() {
+        if (frozen) {
+            throw new FrozenElementException();
+        }
+    }
+
+    @Override
+    public boolean add(T element) {
+        ensureNotFrozen();
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        ensureNotFrozen();
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        ensureNotFrozen();
+        return super.addAll(elements);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        ensureNotFrozen();
+        return super.addAll(index, elements);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        ensureNotFrozen();
+        return super.set(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        ensureNotFrozen();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        ensureNotFrozen();
+        return super.remove(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        ensureNotFrozen();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        ensureNotFrozen();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        ensureNotFrozen();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        ensureNotFrozen();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        ensureNotFrozen();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        ensureNotFrozen();
+        super.sort(c);
+    }
+
+    @Override
+    public void clear() {
+        ensureNotFrozen();
+        super.clear();
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        List<T> subList = super.subList(fromIndex, toIndex);
+        return frozen ? Collections.unmodifiableList(subList) : subList;
+    }
+
+    @Override
+    public int hashCode() {
+        return frozen ? frozenHash : super.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (frozen && o instanceof FreezableList<?> other && other.frozen && frozenHash != other.frozenHash) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public Object clone() {
+        FreezableList<?> clone = (FreezableList<?>) super.clone();
+        clone.frozen = false;
+        return clone;
+    }
+}
@@ -0,0 +1,148 @@
+package de.mlo.dev.tsbuilder.elements.common;
+
+import de.mlo.dev.tsbuilder.elements.FrozenElementException;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An insertion ordered set which can be {@link #freeze() frozen}. A frozen set
+ * rejects any modification with a {@link FrozenElementException} and caches
+ * its hash code.
+ *
+ * @param <T> Type of the set elements
+ */
+public class FreezableSet<T> extends LinkedHashSet<T> {
+
+    private boolean frozen;
+    private int frozenHash;
+
+    /**
+     * Freezes all {@link TsElement elements} of this set and the set itself.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        boolean containsElements = false;
+        for (T element : this) {
+            if (element instanceof TsElement<?> tsElement) {
+                tsElement.freeze();
+                containsElements = true;
+            }
+        }
+        if (containsElements) {
+            // freezing may resolve duplicated children, which changes the
+            // hash code of an element. So the set has to be rehashed.
+            List<T> elements = new ArrayList<>(this);
+            super.clear();
+            super.addAll(elements);
+        }
+        frozenHash = super.hashCode();
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    protected void ensureNotFrozen() {
+        if (frozen) {
+            throw new FrozenElementException();
+        }
+    }
+
+    @Override
+    public boolean add(T element) {
+        ensureNotFrozen();
+        return super.add(element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        ensureNotFrozen();
+        return super.addAll(elements);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        ensureNotFrozen();
+        return super.remove(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        ensureNotFrozen();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        ensureNotFrozen();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        ensureNotFrozen();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        ensureNotFrozen();
+        super.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = super.iterator();
+        if (!frozen) {
+            return iterator;
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new FrozenElementException();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return frozen ? frozenHash : super.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (frozen && o instanceof FreezableSet<?> other && other.frozen && frozenHash != other.frozenHash) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public Object clone() {
+        FreezableSet<?> clone = (FreezableSet<?>) super.clone();
+        clone.frozen = false;
+        return clone;
+    }
+}
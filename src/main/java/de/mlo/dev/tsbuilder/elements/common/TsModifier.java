@@ -3,14 +3,58 @@ package de.mlo.dev.tsbuilder.elements.common;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 
+@Getter
 @EqualsAndHashCode(callSuper = false)
 public class TsModifier extends TsElement<TsModifier> {
+
+    static final int EXPORT = 1;
+    static final int DEFAULT = 1 << 1;
+    static final int PUBLIC = 1 << 2;
+    static final int PRIVATE = 1 << 3;
+    static final int PROTECTED = 1 << 4;
+    static final int STATIC = 1 << 5;
+    static final int READONLY = 1 << 6;
+    static final int ABSTRACT = 1 << 7;
+    static final int ASYNC = 1 << 8;
+    static final int GET = 1 << 9;
+    static final int SET = 1 << 10;
+
     private final String name;
 
+    /**
+     * The flag of a well-known modifier or 0 for any custom modifier
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @EqualsAndHashCode.Exclude
+    private final int flag;
+
     public TsModifier(String name) {
         this.name = name;
+        this.flag = flagOf(name);
+    }
+
+    static int flagOf(String name) {
+        if (name == null) {
+            return 0;
+        }
+        return switch (name) {
+            case "export" -> EXPORT;
+            case "default" -> DEFAULT;
+            case "public" -> PUBLIC;
+            case "private" -> PRIVATE;
+            case "protected" -> PROTECTED;
+            case "static" -> STATIC;
+            case "readonly" -> READONLY;
+            case "abstract" -> ABSTRACT;
+            case "async" -> ASYNC;
+            case "get" -> GET;
+            case "set" -> SET;
+            default -> 0;
+        };
     }
 
     @Override
@@ -1,26 +1,212 @@
 package de.mlo.dev.tsbuilder.elements.common;
 
-import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.elements.FrozenElementException;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 
-import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
-public class TsModifierList extends LinkedHashSet<TsModifier> {
+/**
+ * An insertion ordered set of {@link TsModifier modifiers}.<br>
+ * Well-known modifiers like <code>export</code>, <code>public</code> or
+ * <code>get</code> are additionally tracked as flags, so checks like
+ * {@link #isGetter()} are constant time and do not allocate anything.
+ * Custom modifiers are supported as well. Well-known modifiers which have been
+ * added in the order of their flags, like <code>public static readonly</code>,
+ * are written from a table which is shared by all lists. Any other list is
+ * written modifier by modifier.
+ */
+public class TsModifierList extends AbstractSet<TsModifier> {
+
+    // the names of the well-known modifiers by the bit of their flag
+    private static final String[] NAMES = {
+            "export", "default", "public", "private", "protected", "static",
+            "readonly", "abstract", "async", "get", "set"
+    };
+
+    // the rendered modifiers by their flags, filled on the first use of a combination
+    private static final String[] PREFIXES = new String[1 << NAMES.length];
+
+    private final List<TsModifier> modifiers = new ArrayList<>(2);
+    private int flags;
+    // whether the list holds well-known modifiers only, added in the order of their flags
+    private boolean ordered = true;
+    private boolean frozen;
 
     public String build(TsContext context) {
-        return stream()
-                .map(modifier -> modifier.createWriter(context))
-                .map(TsElementWriter::build)
-                .collect(Collectors.joining(" "));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context) {
+        if (ordered && isPlain()) {
+            context.getOutput().append(prefixOf(flags));
+            return;
+        }
+        boolean first = true;
+        for (TsModifier modifier : modifiers) {
+            if (!first) {
+                context.getOutput().append(' ');
+            }
+            modifier.write(context);
+            first = false;
+        }
+    }
+
+    private static String prefixOf(int flags) {
+        String prefix = PREFIXES[flags];
+        if (prefix == null) {
+            // a race only renders the same string twice
+            StringBuilder sb = new StringBuilder();
+            for (int bit = 0; bit < NAMES.length; bit++) {
+                if ((flags & 1 << bit) != 0) {
+                    if (!sb.isEmpty()) {
+                        sb.append(' ');
+                    }
+                    sb.append(NAMES[bit]);
+                }
+            }
+            prefix = sb.toString();
+            PREFIXES[flags] = prefix;
+        }
+        return prefix;
+    }
+
+    private void updateOrdered() {
+        int previous = 0;
+        ordered = true;
+        for (TsModifier modifier : modifiers) {
+            if (modifier.getFlag() <= previous) {
+                ordered = false;
+                return;
+            }
+            previous = modifier.getFlag();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the modifiers have neither imports nor
+     * content before or after them, so they can be written from the table
+     */
+    private boolean isPlain() {
+        for (TsModifier modifier : modifiers) {
+            if (!modifier.getImportList().isEmpty()
+                    || !modifier.getBeforeElementContent().isEmpty()
+                    || !modifier.getAfterElementContent().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Freezes all modifiers and the list itself, so it cannot be modified anymore.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (TsModifier modifier : modifiers) {
+            modifier.freeze();
+        }
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void ensureNotFrozen() {
+        if (frozen) {
+            throw new FrozenElementException();
+        }
+    }
+
+    @Override
+    public boolean add(TsModifier modifier) {
+        ensureNotFrozen();
+        if (contains(modifier)) {
+            return false;
+        }
+        ordered &= modifier.getFlag() > flags;
+        modifiers.add(modifier);
+        flags |= modifier.getFlag();
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof TsModifier modifier && modifier.getFlag() != 0) {
+            return (flags & modifier.getFlag()) != 0;
+        }
+        return modifiers.contains(o);
+    }
+
+    @Override
+    public Iterator<TsModifier> iterator() {
+        Iterator<TsModifier> iterator = modifiers.iterator();
+        return new Iterator<>() {
+            private TsModifier current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public TsModifier next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                ensureNotFrozen();
+                iterator.remove();
+                flags &= ~current.getFlag();
+                updateOrdered();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return modifiers.size();
+    }
+
+    @Override
+    public void clear() {
+        ensureNotFrozen();
+        modifiers.clear();
+        flags = 0;
+        ordered = true;
+    }
+
+    private boolean is(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    private void set(int flag, String name) {
+        if (!is(flag)) {
+            add(new TsModifier(name));
+        }
     }
 
     public void setDefault() {
-        add(new TsModifier("default"));
+        set(TsModifier.DEFAULT, "default");
+    }
+
+    public boolean isDefault() {
+        return is(TsModifier.DEFAULT);
     }
 
     public void setExport() {
-        add(new TsModifier("export"));
+        set(TsModifier.EXPORT, "export");
+    }
+
+    public boolean isExport() {
+        return is(TsModifier.EXPORT);
     }
 
     /**
@@ -32,7 +218,11 @@ public class TsModifierList extends LinkedHashSet<TsModifier> {
      * }</pre>
      */
     public void setPublic() {
-        add(new TsModifier("public"));
+        set(TsModifier.PUBLIC, "public");
+    }
+
+    public boolean isPublic() {
+        return is(TsModifier.PUBLIC);
     }
 
     /**
@@ -44,11 +234,55 @@ public class TsModifierList extends LinkedHashSet<TsModifier> {
      * }</pre>
      */
     public void setPrivate() {
-        add(new TsModifier("private"));
+        set(TsModifier.PRIVATE, "private");
+    }
+
+    public boolean isPrivate() {
+        return is(TsModifier.PRIVATE);
+    }
+
+    public void setProtected() {
+        set(TsModifier.PROTECTED, "protected");
+    }
+
+    public boolean isProtected() {
+        return is(TsModifier.PROTECTED);
+    }
+
+    public void setStatic() {
+        set(TsModifier.STATIC, "static");
+    }
+
+    public boolean isStatic() {
+        return is(TsModifier.STATIC);
+    }
+
+    public void setReadonly() {
+        set(TsModifier.READONLY, "readonly");
+    }
+
+    public boolean isReadonly() {
+        return is(TsModifier.READONLY);
+    }
+
+    public void setAbstract() {
+        set(TsModifier.ABSTRACT, "abstract");
+    }
+
+    public boolean isAbstract() {
+        return is(TsModifier.ABSTRACT);
+    }
+
+    public void setAsync() {
+        set(TsModifier.ASYNC, "async");
+    }
+
+    public boolean isAsync() {
+        return is(TsModifier.ASYNC);
     }
 
     public void setSetter(){
-        add(new TsModifier("set"));
+        set(TsModifier.SET, "set");
     }
 
     /**
@@ -60,11 +294,11 @@ public class TsModifierList extends LinkedHashSet<TsModifier> {
      * }</pre>
      */
     public boolean isSetter() {
-        return contains(new TsModifier("set"));
+        return is(TsModifier.SET);
     }
 
     public void setGetter(){
-        add(new TsModifier("get"));
+        set(TsModifier.GET, "get");
     }
 
     /**
@@ -76,6 +310,6 @@ public class TsModifierList extends LinkedHashSet<TsModifier> {
      * }</pre>
      */
     public boolean isGetter() {
-        return contains(new TsModifier("get"));
+        return is(TsModifier.GET);
     }
 }
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -43,6 +44,16 @@ public class TsDecorator extends TsElement<TsDecorator> {
         }
     }
 
+    @Override
+    protected void freezeContent() {
+        decoratorPropertyList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        decoratorPropertyList.forEach(action);
+    }
+
     @Override
     public TsElementWriter<TsDecorator> createWriter(TsContext context) {
         return new TsDecoratorWriter(context, this);
@@ -1,19 +1,25 @@
 package de.mlo.dev.tsbuilder.elements.decorator;
 
-import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 
-import java.util.LinkedHashSet;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-public class TsDecoratorList extends LinkedHashSet<TsDecorator> {
+public class TsDecoratorList extends FreezableSet<TsDecorator> {
 
     public String build(TsContext context){
-        return stream()
-                .map(decorator -> decorator.createWriter(context))
-                .map(TsElementWriter::build)
-                .collect(Collectors.joining("\n"));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context){
+        boolean first = true;
+        for (TsDecorator decorator : this) {
+            if (!first) {
+                context.getOutput().append('\n');
+            }
+            decorator.writeElement(context);
+            first = false;
+        }
     }
 
     public Optional<TsDecorator> get(String decoratorName){
@@ -6,22 +6,44 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.values.StringValue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Accessors(chain = true)
-@Setter
 @Getter
 public class TsDecoratorProperty extends TsElement<TsDecoratorProperty> {
 
     private String name;
     private TsElement<?> value;
 
+    public TsDecoratorProperty setName(String name) {
+        ensureNotFrozen();
+        this.name = name;
+        return this;
+    }
+
+    public TsDecoratorProperty setValue(TsElement<?> value) {
+        ensureNotFrozen();
+        this.value = value;
+        return this;
+    }
+
     public TsDecoratorProperty setStringValue(String value){
         return setValue(new StringValue(value));
     }
 
+    @Override
+    protected void freezeContent() {
+        freezeChild(value);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        visitChild(value, action);
+    }
+
     @Override
     public TsElementWriter<TsDecoratorProperty> createWriter(TsContext context) {
         return new TsDecoratorPropertyWriter(context, this);
@@ -1,17 +1,20 @@
 package de.mlo.dev.tsbuilder.elements.decorator;
 
-import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.common.FreezableList;
 
-import java.util.ArrayList;
-import java.util.stream.Collectors;
-
-public class TsDecoratorPropertyList extends ArrayList<TsDecoratorProperty> {
+public class TsDecoratorPropertyList extends FreezableList<TsDecoratorProperty> {
 
     public String build(TsContext context){
-        return stream()
-                .map(property -> property.createWriter(context))
-                .map(TsElementWriter::build)
-                .collect(Collectors.joining(",\n"));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context){
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                context.getOutput().append(",\n");
+            }
+            get(i).writeElement(context);
+        }
     }
 }
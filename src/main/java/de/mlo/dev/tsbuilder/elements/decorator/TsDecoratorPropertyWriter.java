@@ -10,22 +10,20 @@ public class TsDecoratorPropertyWriter extends TsElementWriter<TsDecoratorProper
     }
 
     @Override
-    public String build() {
-        String name = buildName();
-        String value = buildValue();
-        return name + value;
+    public void write() {
+        writeName();
+        writeValue();
     }
 
-    private String buildName(){
+    private void writeName(){
         String name = getElement().getName();
         if(name != null && !name.isBlank()){
-            return name + ": ";
+            getOutput().append(name).append(": ");
         }
-        return "";
     }
 
-    private String buildValue(){
+    private void writeValue(){
         TsElement<?> value = getElement().getValue();
-        return value.build(getContext());
+        value.write(getContext());
     }
 }
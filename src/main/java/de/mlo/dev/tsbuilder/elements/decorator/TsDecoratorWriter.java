@@ -9,18 +9,19 @@ public class TsDecoratorWriter extends TsElementWriter<TsDecorator> {
     }
 
     @Override
-    public String build() {
-        String name = getElement().getName();
-        String properties = buildProperties();
-
-        return name + properties;
+    public void write() {
+        getOutput().append(getElement().getName());
+        writeProperties();
     }
 
-    private String buildProperties(){
+    private void writeProperties(){
         TsDecoratorPropertyList decoratorPropertyList = getElement().getDecoratorPropertyList();
         if(!decoratorPropertyList.isEmpty()){
-            return "(\n" + decoratorPropertyList.build(getContext()).indent(getIndent()) + ")";
+            getOutput().append("(\n");
+            writeIndented(() -> decoratorPropertyList.write(getContext()));
+            getOutput().append(')');
+        } else {
+            getOutput().append("()");
         }
-        return "()";
     }
 }
@@ -1,5 +1,7 @@
 package de.mlo.dev.tsbuilder.elements.file;
 
+import de.mlo.dev.tsbuilder.ChannelOutput;
+import de.mlo.dev.tsbuilder.FileUpdateChannel;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
@@ -14,7 +16,16 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Accessors(chain = true)
@@ -63,6 +74,121 @@ public class TsFile extends TsElementContainer<TsFile> {
         return addAll(function);
     }
 
+    /**
+     * Writes this file including all imports (UTF-8 encoded) to the given path.
+     * An existing file will be overwritten.
+     *
+     * @param path The target file
+     * @throws IOException if the file could not be written
+     * @see #writeTo(ChannelOutput, TsContext)
+     */
+    public void writeTo(Path path) throws IOException {
+        writeTo(path, new TsContext());
+    }
+
+    /**
+     * Writes this file including all imports (UTF-8 encoded) to the given path.
+     * An existing file will be overwritten.
+     *
+     * @param path    The target file
+     * @param context The context to build with
+     * @throws IOException if the file could not be written
+     * @see #writeTo(ChannelOutput, TsContext)
+     */
+    public void writeTo(Path path, TsContext context) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            writeTo(channel, context);
+        }
+    }
+
+    /**
+     * Writes this file including all imports (UTF-8 encoded) to the given path,
+     * but only if the content differs from the existing file. The content is
+     * compared while it is written, an unchanged file is not touched at all.
+     * A changed file is replaced atomically.
+     *
+     * @param path    The target file
+     * @param context The context to build with
+     * @return <code>true</code> if the file has been written, <code>false</code> if it was unchanged
+     * @throws IOException if the file could not be written
+     * @see FileUpdateChannel
+     */
+    public boolean writeIfChanged(Path path, TsContext context) throws IOException {
+        try (FileUpdateChannel channel = new FileUpdateChannel(path)) {
+            writeTo(channel, context);
+            return channel.commit();
+        }
+    }
+
+    /**
+     * Writes this file including all imports (UTF-8 encoded) to the given channel.
+     * The channel will not be closed.
+     *
+     * @param channel The target channel
+     * @param context The context to build with
+     * @throws IOException if the channel could not be written
+     * @see #writeTo(ChannelOutput, TsContext)
+     */
+    public void writeTo(WritableByteChannel channel, TsContext context) throws IOException {
+        writeTo(new ChannelOutput(channel), context);
+    }
+
+    /**
+     * Writes this file including all imports to the given output and flushes it.
+     * The content is the same as {@link #buildWithImports(TsContext)}, but it is
+     * encoded chunk by chunk while it is written. So the file content is never
+     * held in memory as a whole. Use the same {@link ChannelOutput} for several
+     * files to reuse its buffers.
+     *
+     * @param output  The target output
+     * @param context The context to build with
+     * @throws IOException if the output could not be written
+     */
+    public void writeTo(ChannelOutput output, TsContext context) throws IOException {
+        try {
+            context.redirect(output, () -> writeWithImports(context));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        output.flush();
+    }
+
+    @Override
+    protected void freezeContent() {
+        // the content of a file is written without resolving duplicates
+        contentList.freeze(false);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        contentList.forEach(action);
+    }
+
+    /**
+     * A type which is declared by this file is referenced without an import, even
+     * if the {@link TsContext#getTypeRegistry() type registry} knows it
+     */
+    @Override
+    protected Set<String> findDeclaredTypes() {
+        Set<String> declaredNames = new HashSet<>();
+        for (TsElement<?> element : contentList) {
+            if (element instanceof TsClass clazz) {
+                declaredNames.add(clazz.getName());
+            } else if (element instanceof TsInterface tsInterface) {
+                declaredNames.add(tsInterface.getName());
+            } else if (element instanceof TsType type) {
+                declaredNames.add(type.getName());
+            } else if (element instanceof TsFunction function) {
+                declaredNames.add(function.getName());
+            }
+        }
+        declaredNames.remove(null);
+        return Set.copyOf(declaredNames);
+    }
+
     @Override
     public TsElementWriter<TsFile> createWriter(TsContext context) {
         return new TsFileWriter(context, this);
@@ -72,4 +198,9 @@ public class TsFile extends TsElementContainer<TsFile> {
     public boolean isMergeRequired(TsFile other) {
         return getName().equals(other.getName());
     }
+
+    @Override
+    public Object getMergeKey() {
+        return getName();
+    }
 }
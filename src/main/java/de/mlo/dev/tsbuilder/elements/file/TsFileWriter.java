@@ -2,8 +2,9 @@ package de.mlo.dev.tsbuilder.elements.file;
 
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
 
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 public class TsFileWriter extends TsElementWriter<TsFile> {
     protected TsFileWriter(TsContext context, TsFile element) {
@@ -11,10 +12,27 @@ public class TsFileWriter extends TsElementWriter<TsFile> {
     }
 
     @Override
-    public String build() {
-        return getElement().getContentList()
-                .stream()
-                .map(element -> element.build(getContext()))
-                .collect(Collectors.joining("\n"));
+    public void write() {
+        if (getContext().getTypeRegistry() != null) {
+            getContext().declareTypes(getElement().findDeclaredTypes(), this::writeContent);
+        } else {
+            writeContent();
+        }
+    }
+
+    private void writeContent() {
+        TsElementList contentList = getElement().getContentList();
+        Executor executor = getContext().getExecutor();
+        // only a frozen file is not modified while it is written
+        if (executor != null && contentList.isFrozen() && contentList.size() > 1) {
+            new TsLookaheadWriter(contentList, getContext()).write(executor);
+        } else {
+            for (int i = 0; i < contentList.size(); i++) {
+                if (i > 0) {
+                    getOutput().append('\n');
+                }
+                contentList.get(i).write(getContext());
+            }
+        }
     }
 }
@@ -0,0 +1,131 @@
+package de.mlo.dev.tsbuilder.elements.file;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Writes the elements of a file in their order straight to the output of the
+ * context, while tasks of an executor render the next elements ahead into a
+ * {@link TsContext#fork(Appendable) fork} of the context. At most
+ * {@link #LOOKAHEAD} elements are rendered ahead, so the memory needed does not
+ * depend on the size of the file.
+ * </p>
+ * <p>
+ * Every element is claimed either by a task or by the writing thread. An element
+ * which has not been claimed by a task is written by the writing thread itself,
+ * so it waits for running tasks only and never for a task which is still queued.
+ * Therefore, the executor can be the same executor which runs the writing thread,
+ * e.g. the executor of a project.
+ * </p>
+ * <p>
+ * The elements have to be {@link TsElement#freeze() frozen}, because writing an
+ * element which is not frozen modifies it. The writer does not freeze them itself,
+ * so rendering does not change the model of the caller.
+ * </p>
+ */
+final class TsLookaheadWriter {
+
+    static final int LOOKAHEAD = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final TsElementList elements;
+    private final TsContext context;
+    private final AtomicReferenceArray<CompletableFuture<Rendered>> rendered;
+    private final AtomicInteger nextClaim = new AtomicInteger();
+    // the element which is written by the writing thread
+    private volatile int current;
+
+    /**
+     * @param elements The frozen elements to write
+     * @param context  The context to write to
+     * @throws IllegalStateException if the elements are not frozen
+     */
+    TsLookaheadWriter(TsElementList elements, TsContext context) {
+        if (!elements.isFrozen()) {
+            throw new IllegalStateException("Only frozen elements can be written in parallel");
+        }
+        this.elements = elements;
+        this.context = context;
+        this.rendered = new AtomicReferenceArray<>(elements.size());
+    }
+
+    /**
+     * Writes the elements separated by a line break.
+     *
+     * @param executor Runs the tasks which render ahead
+     */
+    void write(Executor executor) {
+        for (int i = 0; i < rendered.length(); i++) {
+            rendered.set(i, new CompletableFuture<>());
+        }
+        int scheduled = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            current = i;
+            for (; scheduled < Math.min(i + LOOKAHEAD, elements.size()); scheduled++) {
+                try {
+                    executor.execute(this::renderAhead);
+                } catch (RejectedExecutionException e) {
+                    // the remaining elements are written by this thread
+                    scheduled = elements.size();
+                }
+            }
+            if (i > 0) {
+                context.getOutput().append('\n');
+            }
+            if (nextClaim.compareAndSet(i, i + 1)) {
+                elements.get(i).write(context);
+            } else {
+                Rendered result = join(rendered.get(i));
+                rendered.set(i, null);
+                context.merge(result.context());
+                context.getOutput().append(result.output());
+            }
+        }
+    }
+
+    private void renderAhead() {
+        int index = nextClaim.get();
+        while (index < elements.size() && index <= current + LOOKAHEAD) {
+            if (nextClaim.compareAndSet(index, index + 1)) {
+                render(index);
+                return;
+            }
+            index = nextClaim.get();
+        }
+    }
+
+    private void render(int index) {
+        StringBuilder output = new StringBuilder();
+        TsContext fork = context.fork(output);
+        try {
+            elements.get(index).write(fork);
+            rendered.get(index).complete(new Rendered(fork, output));
+        } catch (Throwable e) {
+            rendered.get(index).completeExceptionally(e);
+        }
+    }
+
+    private static Rendered join(CompletableFuture<Rendered> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Rendered(TsContext context, StringBuilder output) {
+    }
+}
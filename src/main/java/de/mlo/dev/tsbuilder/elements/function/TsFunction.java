@@ -2,6 +2,7 @@ package de.mlo.dev.tsbuilder.elements.function;
 
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.*;
+import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
 import de.mlo.dev.tsbuilder.elements.interfaces.TsMethodDeclaration;
 import lombok.EqualsAndHashCode;
@@ -9,7 +10,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * [modifiers]
@@ -90,6 +93,27 @@ public class TsFunction extends TsElementContainer<TsFunction> {
         return modifierList.isGetter();
     }
 
+    @Override
+    protected void freezeContent() {
+        modifierList.freeze();
+        parameterList.freeze();
+        returnTypeList.freeze();
+        contentList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        modifierList.forEach(action);
+        parameterList.forEach(action);
+        returnTypeList.forEach(action);
+        contentList.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        returnTypeList.forEachTypeReference(action);
+    }
+
     @Override
     public TsElementWriter<TsFunction> createWriter(TsContext context) {
         return new TsFunctionWriter(context, this);
@@ -107,6 +131,11 @@ public class TsFunction extends TsElementContainer<TsFunction> {
                 && isSetter() == other.isSetter();
     }
 
+    @Override
+    public Object getMergeKey() {
+        return Arrays.asList(getName(), isGetter(), isSetter());
+    }
+
     @Override
     public TsFunction merge(TsFunction other) {
         TsMethodDeclaration thisDeclaration = getMethodDeclaration();
@@ -6,10 +6,13 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.type.ComplexType;
 import de.mlo.dev.tsbuilder.elements.type.TsSimpleType;
 import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import de.mlo.dev.tsbuilder.elements.type.TsUnionType;
 import de.mlo.dev.tsbuilder.elements.values.Literal;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 /**
  * <pre>
  * param: string;
@@ -123,6 +126,7 @@ public class TsFunctionParameter extends TsElement<TsFunctionParameter> {
     }
 
     public TsFunctionParameter setType(TsElement<?> type) {
+        ensureNotFrozen();
         this.type = type;
         return this;
     }
@@ -131,15 +135,55 @@ public class TsFunctionParameter extends TsElement<TsFunctionParameter> {
         return this.setType(complexType);
     }
 
+    public TsFunctionParameter addOrType(String literal) {
+        return addOrType(Literal.literal(literal));
+    }
+
+    /**
+     * Adds the given type to the type of this parameter as a {@link TsUnionType union}.
+     * If the type is already a mutable union, the type is added to it.
+     *
+     * @param type Any type
+     * @return Instance of this {@link TsFunctionParameter}
+     */
+    public TsFunctionParameter addOrType(TsElement<?> type) {
+        ensureNotFrozen();
+        if (this.type instanceof TsUnionType union && !union.isFrozen()) {
+            union.add(type);
+            return this;
+        }
+        return setType(this.type == null ? TsUnionType.of(type) : TsUnionType.of(this.type, type));
+    }
+
+    public TsFunctionParameter setNullable() {
+        return addOrType(TsTypes.NULL);
+    }
+
     public TsFunctionParameter setOptional(){
         return setOptional(true);
     }
 
     public TsFunctionParameter setOptional(boolean optional){
+        ensureNotFrozen();
         this.optional = optional;
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        freezeChild(type);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        visitChild(type, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(type, action);
+    }
+
     @Override
     public TsElementWriter<TsFunctionParameter> createWriter(TsContext context) {
         return new TsFunctionParameterWriter(context, this);
@@ -1,21 +1,26 @@
 package de.mlo.dev.tsbuilder.elements.function;
 
-import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
-
-import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 
 /**
  * <pre>
  * param1: string | undefined, param2:
  * </pre>
  */
-public class TsFunctionParameterList extends LinkedHashSet<TsFunctionParameter> {
+public class TsFunctionParameterList extends FreezableSet<TsFunctionParameter> {
     public String build(TsContext context) {
-        return stream()
-                .map(element -> element.createWriter(context))
-                .map(TsElementWriter::build)
-                .collect(Collectors.joining(", "));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context) {
+        boolean first = true;
+        for (TsFunctionParameter parameter : this) {
+            if (!first) {
+                context.getOutput().append(", ");
+            }
+            parameter.writeElement(context);
+            first = false;
+        }
     }
 }
@@ -10,22 +10,21 @@ public class TsFunctionParameterWriter extends TsElementWriter<TsFunctionParamet
     }
 
     @Override
-    public String build() {
-        String name = buildName();
-        String type = buildType();
-        return name + ": " + type;
+    public void write() {
+        writeName();
+        getOutput().append(": ");
+        writeType();
     }
 
-    private String buildName(){
-        String name = getElement().getName();
+    private void writeName(){
+        getOutput().append(getElement().getName());
         if(getElement().isOptional()){
-            name = name + "?";
+            getOutput().append('?');
         }
-        return name;
     }
 
-    public String buildType(){
+    public void writeType(){
         TsElement<?> type = getElement().getType();
-        return type.build(getContext());
+        getContext().writeType(type);
     }
 }
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
@@ -17,8 +18,16 @@ public class TsFunctionReturnType extends TsElement<TsFunctionReturnType> {
         this.name = Objects.requireNonNull(name);
     }
 
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        action.accept(name);
+    }
+
     @Override
     public TsElementWriter<TsFunctionReturnType> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this, () -> name);
+        return TsElementWriter.wrap(context, this, ctx -> {
+            ctx.addTypeReference(name);
+            return name;
+        });
     }
 }
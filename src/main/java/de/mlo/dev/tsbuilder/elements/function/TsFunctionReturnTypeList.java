@@ -2,23 +2,97 @@ package de.mlo.dev.tsbuilder.elements.function;
 
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import de.mlo.dev.tsbuilder.elements.type.TsUnionType;
+import de.mlo.dev.tsbuilder.elements.values.Literal;
 
-import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The return types of a function, written as a union. The types are added with
+ * the same rules as the members of a {@link TsUnionType}: unions are flattened
+ * and a type is added only once, e.g. <code>undefined</code> of an optional function.
+ */
+public class TsFunctionReturnTypeList extends FreezableSet<TsElement<?>> {
+
+    // the member keys of the types, rebuilt if the set has been modified by any other function than add
+    private transient Set<Object> memberKeys;
+
+    @Override
+    public boolean add(TsElement<?> returnType) {
+        if (returnType instanceof TsUnionType union
+                && union.getBeforeElementContent().isEmpty()
+                && union.getAfterElementContent().isEmpty()
+                && union.getImportList().isEmpty()) {
+            boolean changed = false;
+            for (TsElement<?> member : union.getMembers()) {
+                changed |= add(member);
+            }
+            return changed;
+        }
+        ensureNotFrozen();
+        if (!memberKeys().add(TsUnionType.memberKey(returnType))) {
+            return false;
+        }
+        return super.add(returnType);
+    }
+
+    private Set<Object> memberKeys() {
+        if (memberKeys == null || memberKeys.size() != size()) {
+            memberKeys = new HashSet<>();
+            for (TsElement<?> returnType : this) {
+                memberKeys.add(TsUnionType.memberKey(returnType));
+            }
+        }
+        return memberKeys;
+    }
+
+    @Override
+    public Object clone() {
+        TsFunctionReturnTypeList clone = (TsFunctionReturnTypeList) super.clone();
+        clone.memberKeys = null;
+        return clone;
+    }
 
-public class TsFunctionReturnTypeList extends LinkedHashSet<TsElement<?>> {
     public String build(TsContext context) {
-        return stream()
-                .map(element -> element.build(context))
-                .collect(Collectors.joining(" | "));
+        return context.capture(() -> write(context));
+    }
+
+    public void write(TsContext context) {
+        boolean first = true;
+        for (TsElement<?> returnType : this) {
+            if (!first) {
+                context.getOutput().append(" | ");
+            }
+            context.writeType(returnType);
+            first = false;
+        }
+    }
+
+    /**
+     * Passes the return types which are looked up in the
+     * {@link TsContext#getTypeRegistry() type registry} as a {@link Literal} while
+     * writing, see {@link TsContext#writeType(TsElement)}
+     *
+     * @param action The action to call for every referenced type
+     */
+    public void forEachTypeReference(Consumer<CharSequence> action) {
+        for (TsElement<?> returnType : this) {
+            if (returnType instanceof Literal literal) {
+                action.accept(literal.getLiteral());
+            }
+        }
     }
 
     public void setOptional(boolean optional) {
         if (optional) {
             add(TsTypes.UNDEFINED);
         } else {
-            remove(TsTypes.UNDEFINED);
+            Object undefined = TsUnionType.memberKey(TsTypes.UNDEFINED);
+            removeIf(returnType -> undefined.equals(TsUnionType.memberKey(returnType)));
         }
     }
 }
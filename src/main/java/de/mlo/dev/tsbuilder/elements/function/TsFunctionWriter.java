@@ -10,39 +10,38 @@ public class TsFunctionWriter extends TsElementWriter<TsFunction> {
     }
 
     @Override
-    public String build() {
-        String modifier = buildModifier();
-        String name = getElement().getName();
-        String parameter = buildParameter();
-        String returnTypes = buildReturnTypes();
-        String content = buildContent();
-
-        return modifier + "function " + name + " (" + parameter + ")" + returnTypes + " {\n" +
-                indent(content) +
-                "}";
+    public void write() {
+        writeModifier();
+        getOutput().append("function ").append(getElement().getName()).append(" (");
+        writeParameter();
+        getOutput().append(')');
+        writeReturnTypes();
+        getOutput().append(" {\n");
+        writeIndented(this::writeContent);
+        getOutput().append('}');
     }
 
-    private String buildModifier(){
+    private void writeModifier(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    private String buildParameter(){
-        return getElement().getParameterList().build(getContext());
+    private void writeParameter(){
+        getElement().getParameterList().write(getContext());
     }
 
-    private String buildReturnTypes(){
+    private void writeReturnTypes(){
         TsFunctionReturnTypeList returnTypeList = getElement().getReturnTypeList();
         if(!returnTypeList.isEmpty()){
-            return ": " + returnTypeList.build(getContext());
+            getOutput().append(": ");
+            returnTypeList.write(getContext());
         }
-        return "";
     }
 
-    private String buildContent(){
-        return getElement().getContentList().build(getContext());
+    private void writeContent(){
+        getElement().getContentList().write(getContext());
     }
 }
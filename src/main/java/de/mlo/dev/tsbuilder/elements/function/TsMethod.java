@@ -2,6 +2,7 @@ package de.mlo.dev.tsbuilder.elements.function;
 
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.*;
+import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.common.TsModifier;
 import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
 import de.mlo.dev.tsbuilder.elements.decorator.TsDecorator;
@@ -15,6 +16,7 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Methods are functions inside a class
@@ -437,6 +439,29 @@ public class TsMethod extends TsElementContainer<TsMethod> {
         return modifierList.isGetter();
     }
 
+    @Override
+    protected void freezeContent() {
+        decoratorList.freeze();
+        modifierList.freeze();
+        parameterList.freeze();
+        returnTypeList.freeze();
+        contentList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        decoratorList.forEach(action);
+        modifierList.forEach(action);
+        parameterList.forEach(action);
+        returnTypeList.forEach(action);
+        contentList.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        returnTypeList.forEachTypeReference(action);
+    }
+
     @Override
     public TsElementWriter<TsMethod> createWriter(TsContext context) {
         return new TsMethodWriter(context, this);
@@ -454,6 +479,11 @@ public class TsMethod extends TsElementContainer<TsMethod> {
                 && isSetter() == other.isSetter();
     }
 
+    @Override
+    public Object getMergeKey() {
+        return Arrays.asList(getName(), isGetter(), isSetter());
+    }
+
     @Override
     public TsMethod merge(TsMethod other) {
         TsMethodDeclaration thisDeclaration = getMethodDeclaration();
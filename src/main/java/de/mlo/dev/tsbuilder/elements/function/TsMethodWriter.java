@@ -11,49 +11,49 @@ public class TsMethodWriter extends TsElementWriter<TsMethod> {
     }
 
     @Override
-    public String build() {
-        String decorators = buildDecorators();
-        String modifier = buildModifier();
-        String parameter = buildParameter();
-        String returnTypes = buildReturnTypes();
-        String content = buildContent();
-        return decorators +
-                modifier + getElement().getName() + " (" + parameter + ")" + returnTypes + " {\n" +
-                indent(content) +
-                "}";
+    public void write() {
+        writeDecorators();
+        writeModifier();
+        getOutput().append(getElement().getName()).append(" (");
+        writeParameter();
+        getOutput().append(')');
+        writeReturnTypes();
+        getOutput().append(" {\n");
+        writeIndented(this::writeContent);
+        getOutput().append('}');
     }
 
-    private String buildDecorators(){
+    private void writeDecorators(){
         TsDecoratorList decoratorList = getElement().getDecoratorList();
         if(!decoratorList.isEmpty()){
-            return decoratorList.build(getContext()) + "\n";
+            decoratorList.write(getContext());
+            getOutput().append('\n');
         }
-        return "";
     }
 
-    private String buildModifier(){
+    private void writeModifier(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    private String buildParameter(){
-        return getElement().getParameterList().build(getContext());
+    private void writeParameter(){
+        getElement().getParameterList().write(getContext());
     }
 
-    private String buildReturnTypes(){
+    private void writeReturnTypes(){
         TsFunctionReturnTypeList returnTypeList = getElement().getReturnTypeList();
         if(!returnTypeList.isEmpty()){
-            return ": " + returnTypeList.build(getContext());
+            getOutput().append(": ");
+            returnTypeList.write(getContext());
         }
-        return "";
     }
 
-    private String buildContent(){
-        return getElement()
+    private void writeContent(){
+        getElement()
                 .getContentList()
-                .build(getContext());
+                .write(getContext());
     }
 }
@@ -1,27 +1,109 @@
 package de.mlo.dev.tsbuilder.elements.imports;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * import {Component_1, Component_2} from 'path_to_module';
+ * <p>
+ * The modules of an import never change. {@link #addModuleName(String)} returns a
+ * new import, so an import can safely be part of a set or shared between threads.
+ * An import which is bound to a list, because it has been returned by
+ * {@link TsImportList#addImport(String, String)} or added with
+ * {@link TsImportList#addImport(TsImport)}, e.g. by
+ * {@link de.mlo.dev.tsbuilder.elements.TsElement#addImport(TsImport) TsElement.addImport(TsImport)},
+ * adds further module names to the list as well.
+ * </p>
  */
-@Getter
-@EqualsAndHashCode
 public class TsImport {
-    private final Set<String> moduleNames = new LinkedHashSet<>();
+    private final Set<String> moduleNames;
     private final String fromPath;
+    private final transient int hash;
+    // the lists which receive the module names added to this import
+    private transient List<TsImportList> owners;
 
     public TsImport(String moduleName, String fromPath) {
-        this.moduleNames.add(moduleName);
+        this(fromPath, Set.of(moduleName), List.of());
+    }
+
+    TsImport(String fromPath, Set<String> moduleNames, List<TsImportList> owners) {
+        this.moduleNames = moduleNames;
         this.fromPath = fromPath;
+        this.owners = owners;
+        this.hash = 31 * Objects.hashCode(fromPath) + moduleNames.hashCode();
+    }
+
+    /**
+     * @param fromPath    The path to the file or node module
+     * @param moduleNames The imported modules, at least one
+     * @return A new import of all given modules
+     */
+    public static TsImport of(String fromPath, Collection<String> moduleNames) {
+        if (moduleNames.isEmpty()) {
+            throw new IllegalArgumentException("An import needs at least one module name");
+        }
+        return new TsImport(fromPath, Collections.unmodifiableSet(new LinkedHashSet<>(moduleNames)), List.of());
+    }
+
+    /**
+     * @param moduleName Another module of the same path
+     * @return A new import with the additional module, or this import if the
+     * module is already imported
+     */
+    public TsImport addModuleName(String moduleName) {
+        if (moduleNames.contains(moduleName)) {
+            return this;
+        }
+        for (TsImportList owner : owners) {
+            owner.add(moduleName, fromPath);
+        }
+        Set<String> names = new LinkedHashSet<>(moduleNames);
+        names.add(moduleName);
+        return new TsImport(fromPath, Collections.unmodifiableSet(names), owners);
+    }
+
+    /**
+     * Adds the module names of this import to the given list from now on
+     *
+     * @param owner The list which contains this import
+     */
+    void bind(TsImportList owner) {
+        for (TsImportList bound : owners) {
+            if (bound == owner) {
+                return;
+            }
+        }
+        List<TsImportList> bound = new ArrayList<>(owners);
+        bound.add(owner);
+        owners = List.copyOf(bound);
+    }
+
+    /**
+     * @return The imported modules in the order they have been added
+     */
+    public Set<String> getModuleNames() {
+        return moduleNames;
+    }
+
+    public String getFromPath() {
+        return fromPath;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TsImport other
+                && hash == other.hash
+                && Objects.equals(fromPath, other.fromPath)
+                && moduleNames.equals(other.moduleNames);
     }
 
-    public TsImport addModuleName(String moduleName){
-        this.moduleNames.add(moduleName);
-        return this;
+    @Override
+    public int hashCode() {
+        return hash;
     }
 }
@@ -1,29 +1,234 @@
 package de.mlo.dev.tsbuilder.elements.imports;
 
+import de.mlo.dev.tsbuilder.elements.FrozenElementException;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-public class TsImportList extends LinkedHashSet<TsImport> {
+/**
+ * <p>
+ * The imports of an element or a whole file, stored as the set of imported
+ * module names per path. Every added {@link TsImport} is merged into the names
+ * of its path right away, so {@link #build()} writes one statement per path in
+ * a single pass, in the order the paths have been added. A module name which is
+ * imported several times is written only once.
+ * </p>
+ * <p>
+ * As a collection the list contains one {@link TsImport} per path with all
+ * module names of the path.
+ * </p>
+ */
+public class TsImportList extends AbstractCollection<TsImport> {
 
-    public String build(){
-        Map<String, Set<TsImport>> map = new LinkedHashMap<>();
-        for(TsImport tsImport : this){
-            Set<TsImport> tsImports = map.computeIfAbsent(tsImport.getFromPath(), path -> new LinkedHashSet<>());
-            tsImports.add(tsImport);
+    private final Map<String, LinkedHashSet<String>> moduleNamesByPath = new LinkedHashMap<>();
+    private boolean frozen;
+
+    /**
+     * Freezes the list, so it cannot be modified anymore.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void ensureNotFrozen() {
+        if (frozen) {
+            throw new FrozenElementException();
+        }
+    }
+
+    @Override
+    public boolean add(TsImport tsImport) {
+        ensureNotFrozen();
+        return merge(tsImport.getFromPath(), tsImport.getModuleNames());
+    }
+
+    /**
+     * Same as {@link #add(TsImport)} without creating an import
+     *
+     * @param moduleName The name of the module
+     * @param fromPath   The path to the file or node module
+     * @return <code>true</code> if the module was not imported yet
+     */
+    public boolean add(String moduleName, String fromPath) {
+        ensureNotFrozen();
+        return moduleNamesByPath.computeIfAbsent(fromPath, path -> new LinkedHashSet<>(4)).add(moduleName);
+    }
+
+    /**
+     * Adds the given module and returns it as an import which is bound to this list:
+     * every module name added by {@link TsImport#addModuleName(String)} is added to
+     * this list as well.
+     *
+     * @param moduleName The name of the module
+     * @param fromPath   The path to the file or node module
+     * @return The import of the module
+     */
+    public TsImport addImport(String moduleName, String fromPath) {
+        add(moduleName, fromPath);
+        return new TsImport(fromPath, Set.of(moduleName), List.of(this));
+    }
+
+    /**
+     * Adds the modules of the given import and binds the import to this list: every
+     * module name added by {@link TsImport#addModuleName(String)} is added to this
+     * list as well. In contrast to {@link #add(TsImport)} the import is modified.
+     *
+     * @param tsImport The import to add
+     * @return The given import
+     */
+    public TsImport addImport(TsImport tsImport) {
+        add(tsImport);
+        tsImport.bind(this);
+        return tsImport;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends TsImport> imports) {
+        ensureNotFrozen();
+        if (imports instanceof TsImportList other) {
+            boolean modified = false;
+            for (Map.Entry<String, LinkedHashSet<String>> entry : other.moduleNamesByPath.entrySet()) {
+                modified |= merge(entry.getKey(), entry.getValue());
+            }
+            return modified;
         }
+        return super.addAll(imports);
+    }
+
+    private boolean merge(String fromPath, Set<String> moduleNames) {
+        return moduleNamesByPath.computeIfAbsent(fromPath, path -> new LinkedHashSet<>(4)).addAll(moduleNames);
+    }
+
+    /**
+     * @param o Any object
+     * @return <code>true</code> if all module names of the given import are imported
+     * from its path
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof TsImport tsImport) {
+            Set<String> moduleNames = moduleNamesByPath.get(tsImport.getFromPath());
+            return moduleNames != null && moduleNames.containsAll(tsImport.getModuleNames());
+        }
+        return false;
+    }
+
+    /**
+     * Removes the module names of the given import from its path
+     *
+     * @param o The import to remove
+     * @return <code>true</code> if any module name has been removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        ensureNotFrozen();
+        if (o instanceof TsImport tsImport) {
+            Set<String> moduleNames = moduleNamesByPath.get(tsImport.getFromPath());
+            if (moduleNames != null && moduleNames.removeAll(tsImport.getModuleNames())) {
+                if (moduleNames.isEmpty()) {
+                    moduleNamesByPath.remove(tsImport.getFromPath());
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<TsImport> iterator() {
+        Iterator<Map.Entry<String, LinkedHashSet<String>>> iterator = moduleNamesByPath.entrySet().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public TsImport next() {
+                Map.Entry<String, LinkedHashSet<String>> entry = iterator.next();
+                return TsImport.of(entry.getKey(), entry.getValue());
+            }
+
+            @Override
+            public void remove() {
+                ensureNotFrozen();
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * @return The number of paths
+     */
+    @Override
+    public int size() {
+        return moduleNamesByPath.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return moduleNamesByPath.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        ensureNotFrozen();
+        moduleNamesByPath.clear();
+    }
+
+    /**
+     * @return The paths of all imports in the order they have been added
+     */
+    public Set<String> getPaths() {
+        return Collections.unmodifiableSet(moduleNamesByPath.keySet());
+    }
+
+    /**
+     * @param fromPath The path to the file or node module
+     * @return The module names imported from the given path. Empty if nothing is
+     * imported from the path.
+     */
+    public Set<String> getModuleNames(String fromPath) {
+        Set<String> moduleNames = moduleNamesByPath.get(fromPath);
+        return moduleNames == null ? Set.of() : Collections.unmodifiableSet(moduleNames);
+    }
+
+    public String build(){
         StringBuilder sb = new StringBuilder();
-        for (Map.Entry<String, Set<TsImport>> entry : map.entrySet()) {
-            String modules = entry.getValue()
-                    .stream()
-                    .map(TsImport::getModuleNames)
-                    .flatMap(Set::stream)
-                    .collect(Collectors.joining(", "));
-            sb.append("import {").append(modules).append("} from '").append(entry.getKey()).append("';\n");
+        for (Map.Entry<String, LinkedHashSet<String>> entry : moduleNamesByPath.entrySet()) {
+            sb.append("import {");
+            boolean first = true;
+            for (String moduleName : entry.getValue()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(moduleName);
+                first = false;
+            }
+            sb.append("} from '").append(entry.getKey()).append("';\n");
         }
         sb.append('\n');
         return sb.toString();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof TsImportList other && moduleNamesByPath.equals(other.moduleNamesByPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return moduleNamesByPath.hashCode();
+    }
 }
@@ -0,0 +1,151 @@
+package de.mlo.dev.tsbuilder.elements.imports;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Knows the module which exports a type. If a registry is set to the
+ * {@link de.mlo.dev.tsbuilder.elements.TsContext#setTypeRegistry(TsTypeRegistry) context},
+ * the imports of all types which are referenced at a type position, like the type of a
+ * field, parameter or return value, a generic, an implemented interface or a super
+ * class, are collected while the elements are written. So they do not have to be
+ * added to the elements manually. Only registered types are imported, code and
+ * comments are never looked up.
+ * </p>
+ * <pre>{@code
+ * TsTypeRegistry registry = new TsTypeRegistry()
+ *         .register("User", "./models/user")
+ *         .register("Observable", "rxjs");
+ * context.setTypeRegistry(registry);
+ * }</pre>
+ * <p>
+ * The types are looked up by the names they are written with. A name can be a
+ * type expression like <code>Observable&lt;User[]&gt; | null</code>, every
+ * identifier of it is looked up once. Identifiers after a dot and inside of
+ * quotes are skipped. A registry can be shared by several contexts and threads.
+ * </p>
+ */
+public class TsTypeRegistry {
+
+    private final Map<String, String> modulePaths = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @param symbol     The name of the exported type
+     * @param modulePath The path to the file or node module which exports the type
+     * @return this
+     */
+    public TsTypeRegistry register(String symbol, String modulePath) {
+        if (!modulePath.equals(modulePaths.put(symbol, modulePath))) {
+            version.incrementAndGet();
+        }
+        return this;
+    }
+
+    /**
+     * @param modulePaths The module path of every type by the name of the type
+     * @return this
+     */
+    public TsTypeRegistry registerAll(Map<String, String> modulePaths) {
+        modulePaths.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * @param symbol The name of the type
+     * @return <code>true</code> if the type was registered
+     */
+    public boolean unregister(String symbol) {
+        if (modulePaths.remove(symbol) != null) {
+            version.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return A number which changes whenever a type is registered or unregistered
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * @param symbol The name of a type
+     * @return The path of the module which exports the type
+     */
+    public Optional<String> find(String symbol) {
+        return Optional.ofNullable(modulePaths.get(symbol));
+    }
+
+    /**
+     * @return A copy of the module path of every type by the name of the type, sorted by the name
+     */
+    public SortedMap<String, String> getModulePaths() {
+        return new TreeMap<>(modulePaths);
+    }
+
+    public int size() {
+        return modulePaths.size();
+    }
+
+    /**
+     * Adds the imports of all registered types which are referenced by the given name.
+     *
+     * @param typeName The name of a type or any type expression
+     * @param target   The list to add the imports to
+     */
+    public void collectImports(CharSequence typeName, TsImportList target) {
+        collectImports(typeName, Set.of(), target);
+    }
+
+    /**
+     * Adds the imports of all registered types which are referenced by the given name,
+     * except the excluded types. The imports are added by module name, so an excluded
+     * type is never imported, even if another type of the same module is.
+     *
+     * @param typeName      The name of a type or any type expression
+     * @param excludedTypes The types which must not be imported, e.g. the types declared
+     *                      by the file which is written
+     * @param target        The list to add the imports to
+     */
+    public void collectImports(CharSequence typeName, Set<String> excludedTypes, TsImportList target) {
+        int length = typeName.length();
+        int i = 0;
+        char quote = 0;
+        while (i < length) {
+            char c = typeName.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                i++;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                i++;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                do {
+                    i++;
+                } while (i < length && Character.isJavaIdentifierPart(typeName.charAt(i)));
+                if (start == 0 || typeName.charAt(start - 1) != '.') {
+                    String symbol = typeName.subSequence(start, i).toString();
+                    String modulePath = modulePaths.get(symbol);
+                    if (modulePath != null && !excludedTypes.contains(symbol)) {
+                        target.add(symbol, modulePath);
+                    }
+                }
+            } else {
+                i++;
+            }
+        }
+    }
+}
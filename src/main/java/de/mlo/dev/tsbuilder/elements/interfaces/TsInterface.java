@@ -8,6 +8,8 @@ import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class TsInterface extends TsElement<TsInterface> {
@@ -34,6 +36,18 @@ public class TsInterface extends TsElement<TsInterface> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        modifierList.freeze();
+        elementList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        modifierList.forEach(action);
+        elementList.forEach(action);
+    }
+
     @Override
     public TsElementWriter<TsInterface> createWriter(TsContext context) {
         return new TsInterfaceWriter(context, this);
@@ -11,27 +11,25 @@ public class TsInterfaceWriter extends TsElementWriter<TsInterface> {
     }
 
     @Override
-    public String build() {
-        String modifier = buildModifier();
-        String name = getElement().getName();
-        String content = buildContent();
-
-        return modifier + "interface " + name + "{\n" + indent(content) + "}";
+    public void write() {
+        writeModifier();
+        getOutput().append("interface ").append(getElement().getName()).append("{\n");
+        writeIndented(this::writeContent);
+        getOutput().append('}');
     }
 
-    public String buildModifier(){
+    public void writeModifier(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    public String buildContent(){
+    public void writeContent(){
         TsElementList elementList = getElement().getElementList();
         if(!elementList.isEmpty()){
-            return elementList.build(getContext());
+            elementList.write(getContext());
         }
-        return "";
     }
 }
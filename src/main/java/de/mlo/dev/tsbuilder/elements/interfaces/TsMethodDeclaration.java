@@ -13,6 +13,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
@@ -188,6 +189,25 @@ public class TsMethodDeclaration extends TsElement<TsMethodDeclaration> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        modifierList.freeze();
+        parameterList.freeze();
+        returnTypeList.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        modifierList.forEach(action);
+        parameterList.forEach(action);
+        returnTypeList.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        returnTypeList.forEachTypeReference(action);
+    }
+
     @Override
     public TsElementWriter<TsMethodDeclaration> createWriter(TsContext context) {
         return new TsMethodDeclarationWriter(context, this);
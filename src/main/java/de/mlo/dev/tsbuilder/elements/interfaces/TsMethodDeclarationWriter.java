@@ -12,35 +12,37 @@ public class TsMethodDeclarationWriter extends TsElementWriter<TsMethodDeclarati
     }
 
     @Override
-    public String build() {
-        String modifier = buildModifier();
-        String name = getElement().getName();
-        String parameter = buildParameter();
-        String returnTypes = buildReturnTypes();
-        return modifier + name + "(" + parameter + ")" + returnTypes + ";";
+    public void write() {
+        writeModifier();
+        getOutput().append(getElement().getName()).append('(');
+        writeParameter();
+        getOutput().append(')');
+        writeReturnTypes();
+        getOutput().append(';');
     }
 
-    public String buildModifier(){
+    public void writeModifier(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    public String buildParameter(){
+    public void writeParameter(){
         TsFunctionParameterList parameterList = getElement().getParameterList();
         if(!parameterList.isEmpty()){
-            return parameterList.build(getContext());
+            parameterList.write(getContext());
         }
-        return "";
     }
 
-    public String buildReturnTypes(){
+    public void writeReturnTypes(){
         TsFunctionReturnTypeList returnTypeList = getElement().getReturnTypeList();
         if(!returnTypeList.isEmpty()){
-            return ": " + returnTypeList.build(getContext());
+            getOutput().append(": ");
+            returnTypeList.write(getContext());
+        } else {
+            getOutput().append(": void");
         }
-        return ": void";
     }
 }
@@ -6,6 +6,8 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class AttributeTypePair extends TsElement<AttributeTypePair> {
@@ -18,9 +20,28 @@ public class AttributeTypePair extends TsElement<AttributeTypePair> {
         this.value = value;
     }
 
+    @Override
+    protected void freezeContent() {
+        freezeChild(value);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        visitChild(value, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(value, action);
+    }
+
     @Override
     public TsElementWriter<AttributeTypePair> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this,
-                () -> name + ": " + value.build(context));
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context){
+        context.getOutput().append(name).append(": ");
+        context.writeType(value);
     }
 }
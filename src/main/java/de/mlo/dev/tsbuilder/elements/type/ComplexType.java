@@ -3,18 +3,17 @@ package de.mlo.dev.tsbuilder.elements.type;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class ComplexType extends TsElement<ComplexType> {
 
-    private final List<TsElement<?>> attributes = new ArrayList<>();
+    private final TsElementList attributes = new TsElementList();
 
     public ComplexType addAttribute(TsElement<?> attribute){
         this.attributes.add(attribute);
@@ -29,14 +28,33 @@ public class ComplexType extends TsElement<ComplexType> {
         return addAttribute(name, TsTypes.STRING);
     }
 
+    @Override
+    protected void freezeContent() {
+        attributes.freeze(false);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        attributes.forEach(action);
+    }
+
     @Override
     public TsElementWriter<ComplexType> createWriter(TsContext context) {
         return new TsElementWriter<>(context, this) {
             @Override
-            public String build() {
-                return "{\n" + attributes.stream()
-                        .map(elem -> elem.build(context))
-                        .collect(Collectors.joining(",\n")).indent(getContext().getIndent()) + "}";
+            public void write() {
+                getOutput().append("{\n");
+                writeIndented(this::writeAttributes);
+                getOutput().append('}');
+            }
+
+            private void writeAttributes() {
+                for (int i = 0; i < attributes.size(); i++) {
+                    if (i > 0) {
+                        getOutput().append(",\n");
+                    }
+                    attributes.get(i).write(getContext());
+                }
             }
         };
     }
@@ -6,6 +6,24 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A union of two types, e.g. <code>string | null</code>. The types can be unions
+ * again, so a union of many types is a chain of nested {@link OrType OrTypes}.
+ * </p>
+ * <p>
+ * Nested unions are written and frozen without recursion, so the length of
+ * the chain is not limited by the stack size.
+ * </p>
+ *
+ * @see TsUnionType A union of any number of types without duplicates
+ */
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class OrType extends TsElement<OrType> {
@@ -18,12 +36,71 @@ public class OrType extends TsElement<OrType> {
         this.second = second;
     }
 
+    @Override
+    protected void freezeContent() {
+        // the nested unions are frozen from the innermost one, so every
+        // freeze() below finds its own nested unions frozen already
+        List<OrType> nested = new ArrayList<>();
+        Deque<TsElement<?>> stack = new ArrayDeque<>();
+        pushTypes(this, stack);
+        while (!stack.isEmpty()) {
+            if (stack.pop() instanceof OrType orType && !orType.isFrozen()) {
+                nested.add(orType);
+                pushTypes(orType, stack);
+            }
+        }
+        for (int i = nested.size() - 1; i >= 0; i--) {
+            nested.get(i).freeze();
+        }
+        freezeChild(first);
+        freezeChild(second);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        visitChild(first, action);
+        visitChild(second, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(first, action);
+        visitType(second, action);
+    }
+
+    private static void pushTypes(OrType orType, Deque<TsElement<?>> stack) {
+        if (orType.second != null) {
+            stack.push(orType.second);
+        }
+        if (orType.first != null) {
+            stack.push(orType.first);
+        }
+    }
+
     @Override
     public TsElementWriter<OrType> createWriter(TsContext context) {
         return new TsElementWriter<>(context, this) {
             @Override
-            public String build() {
-                return first.build(getContext()) + " | " + second.build(getContext());
+            public void write() {
+                Deque<TsElement<?>> stack = new ArrayDeque<>();
+                pushTypes(getElement(), stack);
+                boolean separate = false;
+                while (!stack.isEmpty()) {
+                    TsElement<?> type = stack.pop();
+                    if (type instanceof OrType orType
+                            && orType.getBeforeElementContent().isEmpty()
+                            && orType.getAfterElementContent().isEmpty()) {
+                        // written inline, the same as its own writer would do
+                        getContext().add(orType);
+                        pushTypes(orType, stack);
+                        continue;
+                    }
+                    if (separate) {
+                        getOutput().append(" | ");
+                    }
+                    getContext().writeType(type);
+                    separate = true;
+                }
             }
         };
     }
@@ -6,29 +6,113 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A type which is rendered by its name only, e.g. <code>string</code> or <code>Date[]</code>.
+ * </p>
+ * <p>
+ * Use {@link #of(String)} or {@link #of(String, int)} to get a {@link #freeze() frozen}
+ * instance which can safely be used by several threads. The built-in types of TypeScript,
+ * like <code>string</code> or <code>Date[]</code>, are shared instances. Other names are
+ * not interned, so a generator with many custom names does not fill a global table.
+ * Use the constructor if the type needs its own imports or additional content.
+ * </p>
+ */
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class TsSimpleType extends TsElement<TsSimpleType> {
 
+    private static final Map<String, TsSimpleType> BUILT_IN_TYPES = createBuiltInTypes();
+
     private final String name;
 
     public TsSimpleType(String name) {
         this.name = name;
     }
 
+    private static Map<String, TsSimpleType> createBuiltInTypes() {
+        List<String> names = new ArrayList<>(List.of(
+                "any", "unknown", "never", "void", "null", "undefined", "object",
+                "string", "number", "boolean", "bigint", "symbol", "Date"));
+        for (TsTypedArray typedArray : TsTypedArray.values()) {
+            names.add(typedArray.getName());
+        }
+        Map<String, TsSimpleType> types = new HashMap<>();
+        for (String name : names) {
+            types.put(name, new TsSimpleType(name).freeze());
+            types.put(name + "[]", new TsSimpleType(name + "[]").freeze());
+        }
+        return Map.copyOf(types);
+    }
+
+    /**
+     * @param name The name of the type
+     * @return The shared instance of a built-in type, otherwise a new frozen instance
+     */
+    public static TsSimpleType of(String name) {
+        TsSimpleType type = BUILT_IN_TYPES.get(name);
+        return type != null ? type : new TsSimpleType(name).freeze();
+    }
+
+    /**
+     * <pre>{@code
+     * TsSimpleType.of("string", 2) -> string[][]
+     * }</pre>
+     *
+     * @param name       The name of the component type
+     * @param arrayDepth The number of array dimensions
+     * @return The frozen instance for the given name and array depth, see {@link #of(String)}
+     */
+    public static TsSimpleType of(String name, int arrayDepth) {
+        if (arrayDepth < 0) {
+            throw new IllegalArgumentException("arrayDepth must not be negative but was " + arrayDepth);
+        }
+        return of(name + "[]".repeat(arrayDepth));
+    }
+
+    /**
+     * @return The array type of this type. If this type is already an array, the
+     * type will not be nested. Frozen types return a frozen type, see {@link #of(String)},
+     * otherwise a new mutable type is created.
+     */
     public TsSimpleType toArray(){
-        if(name.endsWith("[]")){
-            return new TsSimpleType(name);
+        String arrayName = name.endsWith("[]") ? name : name + "[]";
+        if (isFrozen()) {
+            return of(arrayName);
         }
-        return new TsSimpleType(name + "[]");
+        return new TsSimpleType(arrayName);
+    }
+
+    @Override
+    public void write(TsContext context) {
+        if (isFrozen() && getBeforeElementContent().isEmpty() && getAfterElementContent().isEmpty()) {
+            // shortcut for the shared types: nothing to render but the name
+            context.add(this);
+            context.addTypeReference(name);
+            context.getOutput().append(name);
+        } else {
+            super.write(context);
+        }
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        action.accept(name);
     }
 
     @Override
     public TsElementWriter<TsSimpleType> createWriter(TsContext context) {
         return new TsElementWriter<>(context, this) {
             @Override
-            public String build() {
-                return getElement().name;
+            public void write() {
+                getContext().addTypeReference(getElement().name);
+                getOutput().append(getElement().name);
             }
         };
     }
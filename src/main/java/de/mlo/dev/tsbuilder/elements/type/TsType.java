@@ -7,6 +7,8 @@ import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class TsType extends TsElement<TsType> {
@@ -25,6 +27,7 @@ public class TsType extends TsElement<TsType> {
     }
 
     public TsType setValue(TsElement<?> value) {
+        ensureNotFrozen();
         this.value = value;
         return this;
     }
@@ -33,6 +36,23 @@ public class TsType extends TsElement<TsType> {
         return setValue((TsElement<?>) value);
     }
 
+    @Override
+    protected void freezeContent() {
+        modifierList.freeze();
+        freezeChild(value);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        modifierList.forEach(action);
+        visitChild(value, action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        visitType(value, action);
+    }
+
     @Override
     public TsElementWriter<TsType> createWriter(TsContext context) {
         return new TsTypeWriter(context, this);
@@ -12,23 +12,22 @@ public class TsTypeWriter extends TsElementWriter<TsType> {
     }
 
     @Override
-    public String build() {
-        String modifiers = buildModifiers();
-        String name = getElement().getName();
-        String type = buildType();
-        return modifiers + "type " + name + " = " + type;
+    public void write() {
+        writeModifiers();
+        getOutput().append("type ").append(getElement().getName()).append(" = ");
+        writeType();
     }
 
-    public String buildModifiers(){
+    public void writeModifiers(){
         TsModifierList modifierList = getElement().getModifierList();
         if(!modifierList.isEmpty()){
-            return modifierList.build(getContext()) + " ";
+            modifierList.write(getContext());
+            getOutput().append(' ');
         }
-        return "";
     }
 
-    public String buildType(){
+    public void writeType(){
         TsElement<?> value = getElement().getValue();
-        return value.build(getContext());
+        getContext().writeType(value);
     }
 }
@@ -0,0 +1,43 @@
+package de.mlo.dev.tsbuilder.elements.type;
+
+import lombok.Getter;
+
+/**
+ * The typed arrays of JavaScript, e.g. <code>Float64Array</code>
+ */
+@Getter
+public enum TsTypedArray {
+    INT8("Int8Array"),
+    UINT8("Uint8Array"),
+    UINT8_CLAMPED("Uint8ClampedArray"),
+    INT16("Int16Array"),
+    UINT16("Uint16Array"),
+    INT32("Int32Array"),
+    UINT32("Uint32Array"),
+    FLOAT32("Float32Array"),
+    FLOAT64("Float64Array"),
+    BIG_INT64("BigInt64Array", true),
+    BIG_UINT64("BigUint64Array", true);
+
+    private final String name;
+    /**
+     * Whether the values are <code>bigint</code> literals like <code>42n</code>
+     */
+    private final boolean bigInt;
+
+    TsTypedArray(String name) {
+        this(name, false);
+    }
+
+    TsTypedArray(String name, boolean bigInt) {
+        this.name = name;
+        this.bigInt = bigInt;
+    }
+
+    /**
+     * @return The shared type of this typed array
+     */
+    public TsSimpleType getType() {
+        return TsSimpleType.of(name);
+    }
+}
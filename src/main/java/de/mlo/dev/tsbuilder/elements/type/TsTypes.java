@@ -1,17 +1,22 @@
 package de.mlo.dev.tsbuilder.elements.type;
 
+/**
+ * Shared, {@link TsSimpleType#freeze() frozen} instances of the common types.
+ * They can be used by several threads at the same time but cannot be modified.
+ * Create a {@link TsSimpleType#TsSimpleType(String) new type} to add imports.
+ */
 public class TsTypes {
 
-    public static final TsSimpleType ANY = new TsSimpleType("any");
-    public static final TsSimpleType ANY_ARRAY = new TsSimpleType("any[]");
-    public static final TsSimpleType NULL = new TsSimpleType("null");
-    public static final TsSimpleType UNDEFINED = new TsSimpleType("undefined");
-    public static final TsSimpleType UNKNOWN = new TsSimpleType("unknown");
-    public static final TsSimpleType STRING = new TsSimpleType("string");
-    public static final TsSimpleType STRING_ARRAY = new TsSimpleType("string[]");
-    public static final TsSimpleType NUMBER = new TsSimpleType("number");
-    public static final TsSimpleType NUMBER_ARRAY = new TsSimpleType("number[]");
-    public static final TsSimpleType DATE = new TsSimpleType("Date");
-    public static final TsSimpleType DATE_ARRAY = new TsSimpleType("Date[]");
+    public static final TsSimpleType ANY = TsSimpleType.of("any");
+    public static final TsSimpleType ANY_ARRAY = TsSimpleType.of("any", 1);
+    public static final TsSimpleType NULL = TsSimpleType.of("null");
+    public static final TsSimpleType UNDEFINED = TsSimpleType.of("undefined");
+    public static final TsSimpleType UNKNOWN = TsSimpleType.of("unknown");
+    public static final TsSimpleType STRING = TsSimpleType.of("string");
+    public static final TsSimpleType STRING_ARRAY = TsSimpleType.of("string", 1);
+    public static final TsSimpleType NUMBER = TsSimpleType.of("number");
+    public static final TsSimpleType NUMBER_ARRAY = TsSimpleType.of("number", 1);
+    public static final TsSimpleType DATE = TsSimpleType.of("Date");
+    public static final TsSimpleType DATE_ARRAY = TsSimpleType.of("Date", 1);
 
 }
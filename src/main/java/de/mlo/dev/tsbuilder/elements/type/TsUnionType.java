@@ -0,0 +1,217 @@
+package de.mlo.dev.tsbuilder.elements.type;
+
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.common.FreezableList;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionReturnType;
+import de.mlo.dev.tsbuilder.elements.values.Literal;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A union of any number of types, e.g. <code>string | number | null</code>.
+ * </p>
+ * <p>
+ * Nested unions, including {@link OrType OrTypes}, are flattened when they are
+ * added, so the union is always written in a single pass. Every member is added
+ * only once: types which are written by their name only, like {@link TsSimpleType},
+ * {@link Literal} and {@link TsFunctionReturnType}, are compared by their name.
+ * So <code>TsTypes.NULL</code> and <code>Literal.literal("null")</code> are the
+ * same member. Any other type is compared by equality.
+ * </p>
+ */
+@EqualsAndHashCode(callSuper = false)
+public class TsUnionType extends TsElement<TsUnionType> {
+
+    private final FreezableList<TsElement<?>> members = new FreezableList<>();
+
+    // derived from the members, not part of the model
+    private final transient Map<Object, TsElement<?>> memberIndex = new HashMap<>();
+
+    public TsUnionType() {
+    }
+
+    /**
+     * @param members The members of the union
+     * @return A new union with the given members
+     */
+    public static TsUnionType of(TsElement<?>... members) {
+        TsUnionType union = new TsUnionType();
+        for (TsElement<?> member : members) {
+            union.add(member);
+        }
+        return union;
+    }
+
+    /**
+     * Adds the given type to this union. A union is flattened into this union. A type
+     * which is already a member is skipped, its imports are kept by this union.
+     *
+     * @param type The type to add
+     * @return Instance of this {@link TsUnionType}
+     */
+    public TsUnionType add(TsElement<?> type) {
+        ensureNotFrozen();
+        Deque<TsElement<?>> stack = new ArrayDeque<>();
+        stack.push(Objects.requireNonNull(type));
+        while (!stack.isEmpty()) {
+            TsElement<?> member = stack.pop();
+            if (isFlattened(member)) {
+                if (!member.getImportList().isEmpty()) {
+                    addImports(member.getImportList());
+                }
+                pushMembers(member, stack);
+            } else {
+                addMember(member);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param types The types to add
+     * @return Instance of this {@link TsUnionType}
+     * @see #add(TsElement)
+     */
+    public TsUnionType addAll(Collection<? extends TsElement<?>> types) {
+        for (TsElement<?> type : types) {
+            add(type);
+        }
+        return this;
+    }
+
+    /**
+     * @param type The type to remove
+     * @return <code>true</code> if the type was a member of this union
+     */
+    public boolean remove(TsElement<?> type) {
+        ensureNotFrozen();
+        TsElement<?> member = memberIndex.remove(memberKey(type));
+        for (int i = 0; member != null && i < members.size(); i++) {
+            if (members.get(i) == member) {
+                members.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param type Any type
+     * @return <code>true</code> if the type is a member of this union
+     */
+    public boolean contains(TsElement<?> type) {
+        return memberIndex.containsKey(memberKey(type));
+    }
+
+    /**
+     * @return The members of this union in the order they have been added
+     */
+    public List<TsElement<?>> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    private void addMember(TsElement<?> member) {
+        TsElement<?> existing = memberIndex.putIfAbsent(memberKey(member), member);
+        if (existing == null) {
+            members.add(member);
+        } else if (existing != member && !member.getImportList().isEmpty()) {
+            addImports(member.getImportList());
+        }
+    }
+
+    /**
+     * Nested unions without before or after content are merged into this union
+     */
+    private static boolean isFlattened(TsElement<?> type) {
+        return (type instanceof TsUnionType || type instanceof OrType)
+                && type.getBeforeElementContent().isEmpty()
+                && type.getAfterElementContent().isEmpty();
+    }
+
+    private static void pushMembers(TsElement<?> union, Deque<TsElement<?>> stack) {
+        if (union instanceof TsUnionType unionType) {
+            for (int i = unionType.members.size() - 1; i >= 0; i--) {
+                stack.push(unionType.members.get(i));
+            }
+        } else if (union instanceof OrType orType) {
+            if (orType.getSecond() != null) {
+                stack.push(orType.getSecond());
+            }
+            if (orType.getFirst() != null) {
+                stack.push(orType.getFirst());
+            }
+        }
+    }
+
+    /**
+     * Two types are the same member of a union if their keys are equal.
+     *
+     * @param type Any type
+     * @return The key which identifies the type as a member of a union
+     */
+    public static Object memberKey(TsElement<?> type) {
+        if (!type.getBeforeElementContent().isEmpty() || !type.getAfterElementContent().isEmpty()) {
+            return type;
+        }
+        if (type instanceof TsSimpleType simpleType) {
+            return new NamedType(simpleType.getName());
+        } else if (type instanceof Literal literal) {
+            return new NamedType(literal.getLiteral());
+        } else if (type instanceof TsFunctionReturnType returnType) {
+            return new NamedType(returnType.getName());
+        }
+        return type;
+    }
+
+    @Override
+    protected void freezeContent() {
+        members.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        members.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        members.forEach(member -> visitType(member, action));
+    }
+
+    @Override
+    public TsElementWriter<TsUnionType> createWriter(TsContext context) {
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context) {
+        for (int i = 0; i < members.size(); i++) {
+            if (i > 0) {
+                context.getOutput().append(" | ");
+            }
+            context.writeType(members.get(i));
+        }
+    }
+
+    private record NamedType(String name) {
+    }
+}
@@ -3,20 +3,19 @@ package de.mlo.dev.tsbuilder.elements.values;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class ArrayValue  extends TsElement<ArrayValue> {
 
-    private final List<TsElement<?>> values = new ArrayList<>();
+    private final TsElementList values = new TsElementList();
 
     public ArrayValue addString(String value){
         return add(new StringValue(value));
@@ -71,14 +70,29 @@ public class ArrayValue  extends TsElement<ArrayValue> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        values.freeze(false);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        values.forEach(action);
+    }
+
     @Override
     public TsElementWriter<ArrayValue> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this, this::write);
+        return TsElementWriter.streaming(context, this, this::writeTo);
     }
 
-    private String write(TsContext context){
-        return "[" + values.stream()
-                .map(elem -> elem.build(context))
-                .collect(Collectors.joining(", ")) + "]";
+    private void writeTo(TsContext context){
+        context.getOutput().append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                context.getOutput().append(", ");
+            }
+            values.get(i).write(context);
+        }
+        context.getOutput().append(']');
     }
 }
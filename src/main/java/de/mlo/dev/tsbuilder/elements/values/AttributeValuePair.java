@@ -6,6 +6,8 @@ import de.mlo.dev.tsbuilder.elements.TsElement;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class AttributeValuePair extends TsElement<AttributeValuePair> {
@@ -18,12 +20,23 @@ public class AttributeValuePair extends TsElement<AttributeValuePair> {
         this.value = value;
     }
 
+    @Override
+    protected void freezeContent() {
+        freezeChild(value);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        visitChild(value, action);
+    }
+
     @Override
     public TsElementWriter<AttributeValuePair> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this, this::write);
+        return TsElementWriter.streaming(context, this, this::writeTo);
     }
 
-    private String write(TsContext context){
-        return name + ": " + value.build(context);
+    private void writeTo(TsContext context){
+        context.getOutput().append(name).append(": ");
+        value.write(context);
     }
 }
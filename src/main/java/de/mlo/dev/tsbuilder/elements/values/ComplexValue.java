@@ -3,18 +3,17 @@ package de.mlo.dev.tsbuilder.elements.values;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
 import de.mlo.dev.tsbuilder.elements.type.TsTypes;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class ComplexValue extends TsElement<ComplexValue>{
-    private final List<TsElement<?>> attributes = new ArrayList<>();
+    private final TsElementList attributes = new TsElementList();
 
     public ComplexValue addValue(TsElement<?> attribute){
         this.attributes.add(attribute);
@@ -41,14 +40,33 @@ public class ComplexValue extends TsElement<ComplexValue>{
         return addValue(name, TsTypes.STRING);
     }
 
+    @Override
+    protected void freezeContent() {
+        attributes.freeze(false);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        attributes.forEach(action);
+    }
+
     @Override
     public TsElementWriter<ComplexValue> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this, this::write);
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context){
+        context.getOutput().append("{\n");
+        context.writeIndented(() -> writeAttributes(context));
+        context.getOutput().append('}');
     }
 
-    private String write(TsContext context){
-        return "{\n" + attributes.stream()
-                .map(elem -> elem.build(context))
-                .collect(Collectors.joining(",\n")).indent(context.getIndent()) + "}";
+    private void writeAttributes(TsContext context){
+        for (int i = 0; i < attributes.size(); i++) {
+            if (i > 0) {
+                context.getOutput().append(",\n");
+            }
+            attributes.get(i).write(context);
+        }
     }
 }
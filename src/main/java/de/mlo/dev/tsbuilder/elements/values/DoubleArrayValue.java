@@ -0,0 +1,86 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import lombok.EqualsAndHashCode;
+
+/**
+ * An array of numbers which is backed by a <code>double[]</code>.
+ * The array is not copied, so it must not be modified after it has been passed.
+ *
+ * @see PrimitiveArrayValue
+ */
+@EqualsAndHashCode(callSuper = true)
+public class DoubleArrayValue extends PrimitiveArrayValue<DoubleArrayValue> {
+
+    private final double[] values;
+
+    public DoubleArrayValue(double... values) {
+        this.values = values;
+    }
+
+    /**
+     * @param index The index of the value
+     * @return The value at the given index
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the typed array holds <code>bigint</code> values
+     */
+    @Override
+    public DoubleArrayValue asTypedArray(TsTypedArray typedArray) {
+        if (typedArray != null && typedArray.isBigInt()) {
+            throw new IllegalArgumentException("%s cannot hold floating point numbers".formatted(typedArray.getName()));
+        }
+        return super.asTypedArray(typedArray);
+    }
+
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    @Override
+    protected void appendValue(StringBuilder sb, int index) {
+        appendNumber(sb, values[index]);
+    }
+
+    /**
+     * Appends the value as a JavaScript number: integral values below <code>1e15</code>
+     * without a fraction (<code>1</code> instead of <code>1.0</code>), any other value
+     * as the shortest decimal of {@link Double#toString(double)} with the exponent
+     * written the JavaScript way (<code>1e-7</code> and <code>1.5e+20</code> instead
+     * of <code>1.0E-7</code> and <code>1.5E20</code>). The exponent is used at the same
+     * bounds as in Java, which JavaScript reads as the same value.
+     *
+     * @param sb    The target
+     * @param value The value to append
+     */
+    static void appendNumber(StringBuilder sb, double value) {
+        if (Double.isNaN(value)) {
+            sb.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            sb.append(value > 0 ? "Infinity" : "-Infinity");
+        } else if (value == 0) {
+            sb.append(1 / value < 0 ? "-0" : "0");
+        } else if (value == (long) value && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            int start = sb.length();
+            sb.append(value);
+            int exponent = sb.indexOf("E", start);
+            if (exponent >= 0) {
+                if (sb.charAt(exponent - 1) == '0' && sb.charAt(exponent - 2) == '.') {
+                    sb.delete(exponent - 2, exponent);
+                    exponent -= 2;
+                }
+                sb.setCharAt(exponent, 'e');
+                if (sb.charAt(exponent + 1) != '-') {
+                    sb.insert(exponent + 1, '+');
+                }
+            }
+        }
+    }
+}
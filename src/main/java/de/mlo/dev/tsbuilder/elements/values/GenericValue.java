@@ -7,6 +7,8 @@ import de.mlo.dev.tsbuilder.elements.TsElementList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.function.Consumer;
+
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class GenericValue extends TsElement<GenericValue>{
@@ -22,6 +24,22 @@ public class GenericValue extends TsElement<GenericValue>{
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        genericTypeList.freeze(false);
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        genericTypeList.forEach(action);
+    }
+
+    @Override
+    protected void forEachTypeReference(Consumer<CharSequence> action) {
+        action.accept(name);
+        genericTypeList.forEach(type -> visitType(type, action));
+    }
+
     @Override
     public TsElementWriter<GenericValue> createWriter(TsContext context) {
         return new GenericValueWriter(context, this);
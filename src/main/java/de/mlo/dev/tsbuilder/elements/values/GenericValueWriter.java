@@ -2,8 +2,7 @@ package de.mlo.dev.tsbuilder.elements.values;
 
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
-
-import java.util.stream.Collectors;
+import de.mlo.dev.tsbuilder.elements.TsElementList;
 
 public class GenericValueWriter extends TsElementWriter<GenericValue> {
     protected GenericValueWriter(TsContext context, GenericValue element) {
@@ -11,14 +10,20 @@ public class GenericValueWriter extends TsElementWriter<GenericValue> {
     }
 
     @Override
-    public String build() {
-        String generics = buildGenerics();
-        return element.getName() + "<" + generics + ">";
+    public void write() {
+        getContext().addTypeReference(element.getName());
+        getOutput().append(element.getName()).append('<');
+        writeGenerics();
+        getOutput().append('>');
     }
 
-    private String buildGenerics(){
-        return getElement().getGenericTypeList().stream()
-                .map(element -> element.build(getContext()))
-                .collect(Collectors.joining(" | "));
+    private void writeGenerics(){
+        TsElementList genericTypeList = getElement().getGenericTypeList();
+        for (int i = 0; i < genericTypeList.size(); i++) {
+            if (i > 0) {
+                getOutput().append(" | ");
+            }
+            getContext().writeType(genericTypeList.get(i));
+        }
     }
 }
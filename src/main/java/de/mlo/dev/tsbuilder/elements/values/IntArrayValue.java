@@ -0,0 +1,37 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * An array of numbers which is backed by a <code>int[]</code>.
+ * The array is not copied, so it must not be modified after it has been passed.
+ *
+ * @see PrimitiveArrayValue
+ */
+@EqualsAndHashCode(callSuper = true)
+public class IntArrayValue extends PrimitiveArrayValue<IntArrayValue> {
+
+    private final int[] values;
+
+    public IntArrayValue(int... values) {
+        this.values = values;
+    }
+
+    /**
+     * @param index The index of the value
+     * @return The value at the given index
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    @Override
+    protected void appendValue(StringBuilder sb, int index) {
+        sb.append(values[index]);
+    }
+}
@@ -0,0 +1,44 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * An array of numbers which is backed by a <code>long[]</code>.
+ * The array is not copied, so it must not be modified after it has been passed.
+ * <p>
+ * The values are written as they are. A JavaScript number holds integers exactly
+ * only up to <code>&plusmn;(2^53 - 1)</code> (<code>Number.MAX_SAFE_INTEGER</code>),
+ * larger values are rounded when they are read. Use a
+ * {@link de.mlo.dev.tsbuilder.elements.type.TsTypedArray#BIG_INT64 BigInt64Array}
+ * for larger values, they are written as <code>bigint</code>.
+ * </p>
+ *
+ * @see PrimitiveArrayValue
+ */
+@EqualsAndHashCode(callSuper = true)
+public class LongArrayValue extends PrimitiveArrayValue<LongArrayValue> {
+
+    private final long[] values;
+
+    public LongArrayValue(long... values) {
+        this.values = values;
+    }
+
+    /**
+     * @param index The index of the value
+     * @return The value at the given index
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    @Override
+    protected void appendValue(StringBuilder sb, int index) {
+        sb.append(values[index]);
+    }
+}
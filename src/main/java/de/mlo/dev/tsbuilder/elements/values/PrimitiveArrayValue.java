@@ -0,0 +1,101 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.TsOutput;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.type.TsSimpleType;
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * <p>
+ * Base class of the number arrays which are backed by a primitive Java array.
+ * The numbers are neither boxed nor wrapped in a {@link NumberValue}, they are
+ * formatted straight into the output in chunks.
+ * </p>
+ * <pre>{@code
+ * [1, 2, 3]
+ * new Int32Array([1, 2, 3]) // with asTypedArray(TsTypedArray.INT32)
+ * }</pre>
+ *
+ * @param <E> The type of the implementation
+ */
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public abstract class PrimitiveArrayValue<E extends PrimitiveArrayValue<E>> extends TsElement<E> {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private TsTypedArray typedArray;
+
+    /**
+     * Renders the array as initializer of the given typed array.
+     *
+     * @param typedArray The typed array or <code>null</code> for a plain array
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public E asTypedArray(TsTypedArray typedArray) {
+        ensureNotFrozen();
+        this.typedArray = typedArray;
+        return (E) this;
+    }
+
+    /**
+     * @return The typed array if set, otherwise <code>number[]</code>
+     */
+    public TsSimpleType getType() {
+        return typedArray == null ? TsTypes.NUMBER_ARRAY : typedArray.getType();
+    }
+
+    /**
+     * @return The number of values
+     */
+    public abstract int length();
+
+    /**
+     * Appends the value at the given index
+     *
+     * @param sb    The target
+     * @param index The index of the value
+     */
+    protected abstract void appendValue(StringBuilder sb, int index);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TsElementWriter<E> createWriter(TsContext context) {
+        return TsElementWriter.streaming(context, (E) this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context) {
+        TsOutput output = context.getOutput();
+        if (typedArray != null) {
+            output.append("new ").append(typedArray.getName()).append('(');
+        }
+        output.append('[');
+        int length = length();
+        boolean bigInt = typedArray != null && typedArray.isBigInt();
+        StringBuilder chunk = new StringBuilder(Math.min(CHUNK_SIZE, length * 8) + 32);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                chunk.append(", ");
+            }
+            appendValue(chunk, i);
+            if (bigInt) {
+                chunk.append('n');
+            }
+            if (chunk.length() >= CHUNK_SIZE) {
+                output.append(chunk);
+                chunk.setLength(0);
+            }
+        }
+        output.append(chunk);
+        output.append(']');
+        if (typedArray != null) {
+            output.append(')');
+        }
+    }
+}
@@ -3,20 +3,19 @@ package de.mlo.dev.tsbuilder.elements.values;
 import de.mlo.dev.tsbuilder.TsElementWriter;
 import de.mlo.dev.tsbuilder.elements.TsContext;
 import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.common.FreezableSet;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
 public class SetArrayValue extends TsElement<SetArrayValue> {
 
-    private final Set<TsElement<?>> values = new LinkedHashSet<>();
+    private final FreezableSet<TsElement<?>> values = new FreezableSet<>();
 
     public SetArrayValue addString(String value){
         return add(new StringValue(value));
@@ -36,30 +35,49 @@ public class SetArrayValue extends TsElement<SetArrayValue> {
         return this;
     }
 
+    @Override
+    protected void freezeContent() {
+        values.freeze();
+    }
+
+    @Override
+    protected void forEachChild(Consumer<TsElement<?>> action) {
+        values.forEach(action);
+    }
+
     @Override
     public TsElementWriter<SetArrayValue> createWriter(TsContext context) {
-        return TsElementWriter.wrap(context, this, this::write);
+        return TsElementWriter.streaming(context, this, this::writeTo);
     }
 
-    public String write(TsContext context){
+    private void writeTo(TsContext context){
         if(values.size() > 1){
-            return writeMultiValueString(context);
+            writeMultiValueString(context);
+        } else {
+            writeSingleValueString(context);
         }
-        return writeSingleValueString(context);
     }
 
-    private String writeMultiValueString(TsContext context){
-        String values = writeValue(context, ",\n");
-        return "[\n"+ values.indent(context.getIndent()) + "]";
+    private void writeMultiValueString(TsContext context){
+        context.getOutput().append("[\n");
+        context.writeIndented(() -> writeValue(context, ",\n"));
+        context.getOutput().append(']');
     }
 
-    private String writeSingleValueString(TsContext context){
-        return "[" + writeValue(context, ", ") + "]";
+    private void writeSingleValueString(TsContext context){
+        context.getOutput().append('[');
+        writeValue(context, ", ");
+        context.getOutput().append(']');
     }
 
-    private String writeValue(TsContext context, String valueSeparator){
-        return values.stream()
-                .map(elem -> elem.build(context))
-                .collect(Collectors.joining(valueSeparator));
+    private void writeValue(TsContext context, String valueSeparator){
+        boolean first = true;
+        for (TsElement<?> value : values) {
+            if (!first) {
+                context.getOutput().append(valueSeparator);
+            }
+            value.write(context);
+            first = false;
+        }
     }
 }
@@ -0,0 +1,111 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import lombok.EqualsAndHashCode;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * An array value which pulls its items from a source while it is written.
+ * In contrast to {@link ArrayValue} the items are never held in memory, so
+ * huge tables can be streamed into the output.
+ * </p>
+ * <pre>{@code
+ * StreamingArrayValue.ofStream(() -> repository.streamIds(), (context, id) -> context.getOutput().append(id.toString()));
+ * // [1, 2, 3]
+ * }</pre>
+ *
+ * @param <T> The type of the items
+ */
+@EqualsAndHashCode(callSuper = false)
+public class StreamingArrayValue<T> extends TsElement<StreamingArrayValue<T>> {
+
+    private final StreamingSource<T> source;
+    private final BiConsumer<TsContext, ? super T> itemWriter;
+    private boolean multiline;
+
+    private StreamingArrayValue(StreamingSource<T> source, BiConsumer<TsContext, ? super T> itemWriter) {
+        this.source = source;
+        this.itemWriter = itemWriter;
+    }
+
+    /**
+     * @param streamSupplier Creates a new stream for each render run. The stream will be closed afterwards.
+     * @param itemWriter     Appends a single item to the output of the context
+     * @param <T>            The type of the items
+     * @return A new {@link StreamingArrayValue}
+     */
+    public static <T> StreamingArrayValue<T> ofStream(Supplier<? extends Stream<? extends T>> streamSupplier,
+                                                      BiConsumer<TsContext, ? super T> itemWriter) {
+        return new StreamingArrayValue<>(StreamingSource.ofStream(streamSupplier), itemWriter);
+    }
+
+    /**
+     * @param iteratorSupplier Creates a new iterator for each render run
+     * @param itemWriter       Appends a single item to the output of the context
+     * @param <T>              The type of the items
+     * @return A new {@link StreamingArrayValue}
+     */
+    public static <T> StreamingArrayValue<T> ofIterator(Supplier<? extends Iterator<? extends T>> iteratorSupplier,
+                                                        BiConsumer<TsContext, ? super T> itemWriter) {
+        return new StreamingArrayValue<>(StreamingSource.ofIterator(iteratorSupplier), itemWriter);
+    }
+
+    /**
+     * Same as {@link #ofStream(Supplier, BiConsumer)} but each item is converted
+     * into an element which is written and discarded right away.
+     *
+     * @param streamSupplier Creates a new stream for each render run. The stream will be closed afterwards.
+     * @param elementFactory Creates the element of a single item
+     * @param <T>            The type of the items
+     * @return A new {@link StreamingArrayValue}
+     */
+    public static <T> StreamingArrayValue<T> ofElements(Supplier<? extends Stream<? extends T>> streamSupplier,
+                                                        Function<? super T, ? extends TsElement<?>> elementFactory) {
+        return ofStream(streamSupplier, (context, item) -> elementFactory.apply(item).write(context));
+    }
+
+    /**
+     * Writes every item in its own line
+     *
+     * @param multiline <code>true</code> to write one item per line
+     * @return this
+     */
+    public StreamingArrayValue<T> setMultiline(boolean multiline) {
+        ensureNotFrozen();
+        this.multiline = multiline;
+        return this;
+    }
+
+    public boolean isMultiline() {
+        return multiline;
+    }
+
+    @Override
+    protected boolean createsElementsWhileWriting() {
+        return true;
+    }
+
+    @Override
+    public TsElementWriter<StreamingArrayValue<T>> createWriter(TsContext context) {
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context) {
+        if (multiline) {
+            context.getOutput().append("[\n");
+            context.writeIndented(() -> source.write(context, ",\n", itemWriter));
+        } else {
+            context.getOutput().append('[');
+            source.write(context, ", ", itemWriter);
+        }
+        context.getOutput().append(']');
+    }
+}
@@ -0,0 +1,96 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import lombok.EqualsAndHashCode;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * A complex value which pulls its attributes from a source while it is written.
+ * In contrast to {@link ComplexValue} the attributes are never held in memory,
+ * so huge lookup tables can be streamed into the output.
+ * </p>
+ * <pre>{@code
+ * StreamingComplexValue.ofStream(() -> countries.stream(), Country::getCode, country -> new StringValue(country.getName()));
+ * // {
+ * //   de: 'Germany',
+ * //   fr: 'France'
+ * // }
+ * }</pre>
+ *
+ * @param <T> The type of the items
+ */
+@EqualsAndHashCode(callSuper = false)
+public class StreamingComplexValue<T> extends TsElement<StreamingComplexValue<T>> {
+
+    private final StreamingSource<T> source;
+    private final BiConsumer<TsContext, ? super T> attributeWriter;
+
+    private StreamingComplexValue(StreamingSource<T> source, BiConsumer<TsContext, ? super T> attributeWriter) {
+        this.source = source;
+        this.attributeWriter = attributeWriter;
+    }
+
+    /**
+     * @param streamSupplier  Creates a new stream for each render run. The stream will be closed afterwards.
+     * @param attributeWriter Appends a single attribute including its name to the output of the context
+     * @param <T>             The type of the items
+     * @return A new {@link StreamingComplexValue}
+     */
+    public static <T> StreamingComplexValue<T> ofStream(Supplier<? extends Stream<? extends T>> streamSupplier,
+                                                        BiConsumer<TsContext, ? super T> attributeWriter) {
+        return new StreamingComplexValue<>(StreamingSource.ofStream(streamSupplier), attributeWriter);
+    }
+
+    /**
+     * @param iteratorSupplier Creates a new iterator for each render run
+     * @param attributeWriter  Appends a single attribute including its name to the output of the context
+     * @param <T>              The type of the items
+     * @return A new {@link StreamingComplexValue}
+     */
+    public static <T> StreamingComplexValue<T> ofIterator(Supplier<? extends Iterator<? extends T>> iteratorSupplier,
+                                                          BiConsumer<TsContext, ? super T> attributeWriter) {
+        return new StreamingComplexValue<>(StreamingSource.ofIterator(iteratorSupplier), attributeWriter);
+    }
+
+    /**
+     * Writes an attribute <code>name: value</code> for every item
+     *
+     * @param streamSupplier Creates a new stream for each render run. The stream will be closed afterwards.
+     * @param nameFunction   The name of the attribute of an item
+     * @param valueFunction  The value of the attribute of an item
+     * @param <T>            The type of the items
+     * @return A new {@link StreamingComplexValue}
+     */
+    public static <T> StreamingComplexValue<T> ofStream(Supplier<? extends Stream<? extends T>> streamSupplier,
+                                                        Function<? super T, String> nameFunction,
+                                                        Function<? super T, ? extends TsElement<?>> valueFunction) {
+        return ofStream(streamSupplier, (context, item) -> {
+            context.getOutput().append(nameFunction.apply(item)).append(": ");
+            valueFunction.apply(item).write(context);
+        });
+    }
+
+    @Override
+    protected boolean createsElementsWhileWriting() {
+        return true;
+    }
+
+    @Override
+    public TsElementWriter<StreamingComplexValue<T>> createWriter(TsContext context) {
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context) {
+        context.getOutput().append("{\n");
+        context.writeIndented(() -> source.write(context, ",\n", attributeWriter));
+        context.getOutput().append('}');
+    }
+}
@@ -0,0 +1,57 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The items of a streaming value. A new stream is requested for every render
+ * run and closed afterwards, so the source can be backed by a database cursor
+ * or a file.
+ *
+ * @param <T> The type of the items
+ */
+final class StreamingSource<T> {
+
+    private final Supplier<? extends Stream<? extends T>> streamSupplier;
+
+    private StreamingSource(Supplier<? extends Stream<? extends T>> streamSupplier) {
+        this.streamSupplier = streamSupplier;
+    }
+
+    static <T> StreamingSource<T> ofStream(Supplier<? extends Stream<? extends T>> streamSupplier) {
+        return new StreamingSource<>(streamSupplier);
+    }
+
+    static <T> StreamingSource<T> ofIterator(Supplier<? extends Iterator<? extends T>> iteratorSupplier) {
+        return new StreamingSource<>(() -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iteratorSupplier.get(), Spliterator.ORDERED), false));
+    }
+
+    /**
+     * Writes every item with the given item writer and the separator in between
+     *
+     * @param context    The context to write to
+     * @param separator  The separator between two items
+     * @param itemWriter Writes a single item
+     */
+    void write(TsContext context, String separator, BiConsumer<TsContext, ? super T> itemWriter) {
+        try (Stream<? extends T> stream = streamSupplier.get()) {
+            Iterator<? extends T> iterator = stream.iterator();
+            boolean first = true;
+            while (iterator.hasNext()) {
+                if (!first) {
+                    context.getOutput().append(separator);
+                }
+                itemWriter.accept(context, iterator.next());
+                first = false;
+            }
+        }
+    }
+}
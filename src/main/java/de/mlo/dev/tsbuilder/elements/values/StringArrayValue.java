@@ -0,0 +1,129 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.TsOutput;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * A compact array of strings. In contrast to {@link ArrayValue#addStrings(String...)}
+ * the strings are stored as they are instead of a {@link StringValue} per entry and
+ * they are {@link StringEscaper escaped} while they are written.
+ * </p>
+ * <pre>{@code
+ * ['foo', 'it\'s']
+ * }</pre>
+ * A {@link #distinct() distinct} array skips strings which have been added before.
+ */
+public class StringArrayValue extends TsElement<StringArrayValue> {
+
+    private static final String[] EMPTY = new String[0];
+
+    private String[] values = EMPTY;
+    private int size;
+    private Set<String> distinctValues;
+
+    public StringArrayValue(String... values) {
+        addAll(Arrays.asList(values));
+    }
+
+    /**
+     * @return A new empty array which ignores duplicated strings
+     */
+    public static StringArrayValue distinct() {
+        StringArrayValue value = new StringArrayValue();
+        value.distinctValues = new HashSet<>();
+        return value;
+    }
+
+    /**
+     * @param values The strings to add
+     * @return A new array with the given strings without duplicates
+     */
+    public static StringArrayValue distinct(Collection<String> values) {
+        return distinct().addAll(values);
+    }
+
+    public StringArrayValue add(String value) {
+        ensureNotFrozen();
+        if (distinctValues != null && !distinctValues.add(value)) {
+            return this;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size * 2));
+        }
+        values[size++] = value;
+        return this;
+    }
+
+    public StringArrayValue addAll(Collection<String> values) {
+        ensureNotFrozen();
+        if (this.values.length < size + values.size()) {
+            this.values = Arrays.copyOf(this.values, size + values.size());
+        }
+        for (String value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    public boolean isDistinct() {
+        return distinctValues != null;
+    }
+
+    /**
+     * @return The number of strings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return An unmodifiable view of the strings
+     */
+    public List<String> getValues() {
+        return Collections.unmodifiableList(Arrays.asList(values).subList(0, size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof StringArrayValue other
+                && Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + values[i].hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public TsElementWriter<StringArrayValue> createWriter(TsContext context) {
+        return TsElementWriter.streaming(context, this, this::writeTo);
+    }
+
+    private void writeTo(TsContext context) {
+        TsOutput output = context.getOutput();
+        output.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                output.append(", ");
+            }
+            StringEscaper.appendQuoted(output, values[i]);
+        }
+        output.append(']');
+    }
+}
@@ -0,0 +1,69 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsOutput;
+
+/**
+ * Escapes strings for single quoted TypeScript string literals. A lookup table
+ * holds the escape sequence of every ASCII character which has to be escaped,
+ * so a string is scanned once and the unescaped runs are appended as they are.
+ */
+public final class StringEscaper {
+
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (char c = 0; c < 0x20; c++) {
+            ESCAPES[c] = "\\x%02x".formatted((int) c);
+        }
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\t'] = "\\t";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES[0x0B] = "\\v";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\''] = "\\'";
+        ESCAPES['\\'] = "\\\\";
+    }
+
+    private StringEscaper() {
+    }
+
+    /**
+     * Appends the value as single quoted string literal
+     *
+     * @param output The target
+     * @param value  The raw value
+     */
+    public static void appendQuoted(TsOutput output, CharSequence value) {
+        output.append('\'');
+        int runStart = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            String escape = escape(value.charAt(i));
+            if (escape != null) {
+                if (runStart < i) {
+                    output.append(value, runStart, i);
+                }
+                output.append(escape);
+                runStart = i + 1;
+            }
+        }
+        if (runStart < length) {
+            output.append(value, runStart, length);
+        }
+        output.append('\'');
+    }
+
+    private static String escape(char c) {
+        if (c < ESCAPES.length) {
+            return ESCAPES[c];
+        }
+        // line terminators in JavaScript
+        if (c == '\u2028') {
+            return "\\u2028";
+        } else if (c == '\u2029') {
+            return "\\u2029";
+        }
+        return null;
+    }
+}
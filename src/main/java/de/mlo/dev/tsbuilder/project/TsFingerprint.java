@@ -0,0 +1,229 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.imports.TsTypeRegistry;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * A 64-bit structural hash over an element tree which is stable between JVM runs.
+ * In contrast to {@link Object#hashCode()} it covers every field of the elements
+ * including their imports and before and after content.
+ * </p>
+ * <p>
+ * The tree is walked by reflection. Elements which hold objects without a stable
+ * representation, like a lambda of a
+ * {@link de.mlo.dev.tsbuilder.elements.values.StreamingArrayValue StreamingArrayValue},
+ * cannot be fingerprinted. Transient fields, like the state of a
+ * {@link TsElement#freeze() frozen} element, are skipped.
+ * </p>
+ */
+public final class TsFingerprint {
+
+    /**
+     * Changes if the rendering of the elements changes, so old fingerprints become invalid
+     */
+    private static final long VERSION = 1;
+    private static final String PACKAGE = "de.mlo.dev.tsbuilder.";
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+    private static final Object NULL = new Object();
+
+    private final IdentityHashMap<Object, Boolean> path = new IdentityHashMap<>();
+    private long hash = VERSION;
+
+    private TsFingerprint() {
+    }
+
+    /**
+     * @param element The root of the tree
+     * @param salt    Additional input like the settings of the context
+     * @return The fingerprint or empty if the tree contains objects without a stable representation
+     */
+    public static OptionalLong of(TsElement<?> element, long salt) {
+        TsFingerprint fingerprint = new TsFingerprint();
+        fingerprint.mix(salt);
+        try {
+            fingerprint.add(element);
+        } catch (UnstableException e) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(fingerprint.hash);
+    }
+
+    /**
+     * The settings of the context which change the rendering of a file: the indent
+     * and the registered types of the {@link TsContext#getTypeRegistry() type registry}
+     *
+     * @param context The context the files are rendered with
+     * @return The salt for {@link #of(TsElement, long)}
+     */
+    public static long salt(TsContext context) {
+        TsFingerprint fingerprint = new TsFingerprint();
+        fingerprint.mix(context.getIndent());
+        TsTypeRegistry typeRegistry = context.getTypeRegistry();
+        if (typeRegistry != null) {
+            Map<String, String> modulePaths = typeRegistry.getModulePaths();
+            fingerprint.mix(modulePaths.size());
+            modulePaths.forEach((symbol, modulePath) -> {
+                fingerprint.addString(symbol);
+                fingerprint.addString(modulePath);
+            });
+        }
+        return fingerprint.hash;
+    }
+
+    private void add(Object root) {
+        // an explicit stack instead of recursion, deep trees must not overflow the thread stack
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root == null ? NULL : root);
+        while (!stack.isEmpty()) {
+            Object value = stack.pop();
+            if (value instanceof Exit exit) {
+                path.remove(exit.value());
+            } else if (value == NULL) {
+                mix(0);
+            } else if (value instanceof String string) {
+                addString(string);
+            } else if (value instanceof Boolean bool) {
+                mix(bool ? 3 : 2);
+            } else if (value instanceof Character character) {
+                mix(character);
+            } else if (value instanceof Double || value instanceof Float) {
+                mix(Double.doubleToLongBits(((Number) value).doubleValue()));
+            } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+                addString(value.toString());
+            } else if (value instanceof Number number) {
+                mix(number.longValue());
+            } else if (value instanceof Enum<?> constant) {
+                addString(constant.getDeclaringClass().getName());
+                addString(constant.name());
+            } else if (value instanceof Optional<?> optional) {
+                stack.push(optional.isPresent() ? optional.get() : NULL);
+            } else if (path.put(value, Boolean.TRUE) != null) {
+                // a cycle, the element is already part of the hash
+                mix(1);
+            } else {
+                List<Object> children = new ArrayList<>();
+                addComposite(value, children);
+                stack.push(new Exit(value));
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    Object child = children.get(i);
+                    stack.push(child == null ? NULL : child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mixes the size or type of the given composite and collects its parts
+     */
+    private void addComposite(Object value, List<Object> children) {
+        if (value instanceof Collection<?> collection) {
+            mix(collection.size());
+            children.addAll(collection);
+        } else if (value instanceof Map<?, ?> map) {
+            mix(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                children.add(entry.getKey());
+                children.add(entry.getValue());
+            }
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            mix(length);
+            for (int i = 0; i < length; i++) {
+                children.add(Array.get(value, i));
+            }
+        } else {
+            addFields(value, children);
+        }
+    }
+
+    private void addFields(Object value, List<Object> children) {
+        Class<?> type = value.getClass();
+        boolean known = value instanceof TsElement<?> || type.getName().startsWith(PACKAGE);
+        if (!known || type.isSynthetic() || type.isAnonymousClass()) {
+            throw new UnstableException();
+        }
+        addString(type.getName());
+        for (Field field : FIELDS.computeIfAbsent(type, TsFingerprint::findFields)) {
+            try {
+                children.add(field.get(value));
+            } catch (IllegalAccessException e) {
+                throw new UnstableException();
+            }
+        }
+    }
+
+    private static List<Field> findFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            List<Field> declared = new ArrayList<>();
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    try {
+                        field.setAccessible(true);
+                    } catch (InaccessibleObjectException e) {
+                        throw new UnstableException();
+                    }
+                    declared.add(field);
+                }
+            }
+            declared.sort(Comparator.comparing(Field::getName));
+            fields.addAll(declared);
+        }
+        return fields;
+    }
+
+    private void addString(String value) {
+        int length = value.length();
+        mix(length);
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            mix((long) value.charAt(i) << 48
+                    | (long) value.charAt(i + 1) << 32
+                    | (long) value.charAt(i + 2) << 16
+                    | value.charAt(i + 3));
+        }
+        for (; i < length; i++) {
+            mix(value.charAt(i));
+        }
+    }
+
+    private void mix(long value) {
+        // splitmix64 finalizer applied to the running hash and the new value
+        long h = hash ^ value;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        hash = h ^ (h >>> 31) ^ Long.rotateLeft(hash, 17);
+    }
+
+    /**
+     * Removes the composite from the path after all its parts have been hashed
+     */
+    private record Exit(Object value) {
+    }
+
+    private static class UnstableException extends RuntimeException {
+        UnstableException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.imports.TsImport;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * The imports between the files of a {@link TsProject project}. Every relative
+ * import of a file which points to another file of the project is an edge of the
+ * graph. Imports of packages and of files outside the project are ignored.
+ * </p>
+ * <p>
+ * {@link #findCycles()} finds the files which import each other directly or
+ * transitively with Tarjan's algorithm for strongly connected components, which
+ * runs in linear time and does not use recursion.
+ * </p>
+ */
+public class TsImportGraph {
+
+    private static final String[] EXTENSIONS = {"", ".ts", "/index.ts"};
+
+    private final List<Path> files;
+    private final Map<Path, Integer> indexes;
+    private final int[][] imports;
+
+    private TsImportGraph(List<Path> files, Map<Path, Integer> indexes, int[][] imports) {
+        this.files = files;
+        this.indexes = indexes;
+        this.imports = imports;
+    }
+
+    /**
+     * @param files The files of a project by their path
+     * @return The graph of the imports between the given files
+     */
+    public static TsImportGraph of(Map<Path, TsFile> files) {
+        List<Path> paths = List.copyOf(files.keySet());
+        Map<Path, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            indexes.put(paths.get(i), i);
+        }
+        int[][] imports = new int[paths.size()][];
+        for (int i = 0; i < paths.size(); i++) {
+            Path from = paths.get(i);
+            Set<Integer> targets = new LinkedHashSet<>();
+            for (TsImport tsImport : files.get(from).collectImports()) {
+                Integer target = findFile(from, tsImport.getFromPath(), indexes);
+                if (target != null) {
+                    targets.add(target);
+                }
+            }
+            imports[i] = targets.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new TsImportGraph(paths, indexes, imports);
+    }
+
+    private static Integer findFile(Path from, String modulePath, Map<Path, Integer> indexes) {
+        Path target = TsImportPaths.resolve(from, modulePath);
+        if (target == null) {
+            return null;
+        }
+        for (String extension : EXTENSIONS) {
+            Integer index = indexes.get(Path.of(target + extension));
+            if (index != null) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The paths of all files of the graph
+     */
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    /**
+     * @param file The path of a file of the project
+     * @return The files of the project which are imported by the given file
+     */
+    public List<Path> getImports(Path file) {
+        Integer index = indexes.get(file.normalize());
+        if (index == null) {
+            return List.of();
+        }
+        List<Path> result = new ArrayList<>(imports[index].length);
+        for (int target : imports[index]) {
+            result.add(files.get(target));
+        }
+        return result;
+    }
+
+    /**
+     * Finds all import cycles. Every cycle is a group of files in which each file
+     * imports every other file of the group, directly or transitively. A file
+     * which imports itself is a cycle as well.
+     *
+     * @return The files of each cycle, in the order the files have been added to
+     * the project. Empty if there are no cycles.
+     */
+    public List<List<Path>> findCycles() {
+        int count = files.size();
+        int[] index = new int[count];
+        int[] lowLink = new int[count];
+        boolean[] onStack = new boolean[count];
+        Arrays.fill(index, -1);
+        int[] componentStack = new int[count];
+        int componentSize = 0;
+        // the explicit call stack: the visited file and the position in its imports
+        int[] callStack = new int[count];
+        int[] edgePosition = new int[count];
+        int nextIndex = 0;
+        List<int[]> cycles = new ArrayList<>();
+
+        for (int root = 0; root < count; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            edgePosition[0] = 0;
+            index[root] = lowLink[root] = nextIndex++;
+            componentStack[componentSize++] = root;
+            onStack[root] = true;
+            while (depth >= 0) {
+                int node = callStack[depth];
+                if (edgePosition[depth] < imports[node].length) {
+                    int target = imports[node][edgePosition[depth]++];
+                    if (index[target] < 0) {
+                        index[target] = lowLink[target] = nextIndex++;
+                        componentStack[componentSize++] = target;
+                        onStack[target] = true;
+                        depth++;
+                        callStack[depth] = target;
+                        edgePosition[depth] = 0;
+                    } else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+                if (lowLink[node] == index[node]) {
+                    int start = componentSize;
+                    do {
+                        start--;
+                        onStack[componentStack[start]] = false;
+                    } while (componentStack[start] != node);
+                    int[] component = Arrays.copyOfRange(componentStack, start, componentSize);
+                    componentSize = start;
+                    if (component.length > 1 || importsItself(node)) {
+                        cycles.add(component);
+                    }
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callStack[depth];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+            }
+        }
+        return toPaths(cycles);
+    }
+
+    private boolean importsItself(int node) {
+        for (int target : imports[node]) {
+            if (target == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<List<Path>> toPaths(List<int[]> cycles) {
+        for (int[] cycle : cycles) {
+            Arrays.sort(cycle);
+        }
+        cycles.sort(Comparator.comparingInt(cycle -> cycle[0]));
+        List<List<Path>> result = new ArrayList<>(cycles.size());
+        for (int[] cycle : cycles) {
+            List<Path> paths = new ArrayList<>(cycle.length);
+            for (int file : cycle) {
+                paths.add(files.get(file));
+            }
+            result.add(Collections.unmodifiableList(paths));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,73 @@
+package de.mlo.dev.tsbuilder.project;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Computes the relative module paths of imports between the files of a
+ * {@link TsProject project}, e.g. <code>../models/user</code> to import
+ * <code>models/user.ts</code> into <code>services/user.service.ts</code>.
+ * </p>
+ * <p>
+ * The paths are cached by the directory of the importing file and the imported
+ * file, because the files of a directory usually import the same files.
+ * The cache can be used by several threads.
+ * </p>
+ */
+public class TsImportPaths {
+
+    private static final String EXTENSION = ".ts";
+
+    private final Map<Key, String> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param from The path of the importing file, relative to the output directory
+     * @param to   The path of the imported file, relative to the output directory
+     * @return The module path to import the file with
+     */
+    public String relativize(Path from, Path to) {
+        Path directory = from.normalize().getParent();
+        return cache.computeIfAbsent(new Key(directory, to.normalize()), TsImportPaths::compute);
+    }
+
+    private static String compute(Key key) {
+        Path relative = key.directory() == null ? key.target() : key.directory().relativize(key.target());
+        StringBuilder sb = new StringBuilder();
+        for (Path name : relative) {
+            if (!sb.isEmpty()) {
+                sb.append('/');
+            }
+            sb.append(name);
+        }
+        if (sb.toString().endsWith(EXTENSION)) {
+            sb.setLength(sb.length() - EXTENSION.length());
+        }
+        if (!sb.toString().startsWith("../")) {
+            sb.insert(0, "./");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param from       The path of the importing file, relative to the output directory
+     * @param modulePath The module path of an import
+     * @return The path of the imported file without the extension, or <code>null</code>
+     * if the module path is not relative, e.g. a package
+     */
+    static Path resolve(Path from, String modulePath) {
+        if (!modulePath.startsWith("./") && !modulePath.startsWith("../")) {
+            return null;
+        }
+        Path directory = from.getParent();
+        return (directory == null ? Path.of(modulePath) : directory.resolve(modulePath)).normalize();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private record Key(Path directory, Path target) {
+    }
+}
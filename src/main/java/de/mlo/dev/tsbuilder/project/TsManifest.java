@@ -0,0 +1,138 @@
+package de.mlo.dev.tsbuilder.project;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * The state of the last {@link TsProject#writeTo(Path) write} of a project. For each
+ * output file it holds the {@link TsFingerprint fingerprint} of the model and the
+ * CRC32C checksum and size of the written content.
+ * </p>
+ * The manifest is a text file with one line per output file:
+ * <pre>
+ * ts-builder-manifest 1
+ * [model fingerprint] [output checksum] [output size] [path]
+ * </pre>
+ */
+public class TsManifest {
+
+    private static final String HEADER = "ts-builder-manifest 1";
+
+    private final Map<Path, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * @param modelFingerprint The fingerprint of the {@link de.mlo.dev.tsbuilder.elements.file.TsFile TsFile}
+     * @param outputChecksum   The CRC32C checksum of the written content
+     * @param outputSize       The number of written bytes
+     */
+    public record Entry(long modelFingerprint, long outputChecksum, long outputSize) {
+    }
+
+    /**
+     * Reads the manifest from the given file. A missing or unreadable manifest
+     * results in an empty manifest, so every file will be rendered again.
+     *
+     * @param file The manifest file
+     * @return The manifest
+     * @throws IOException if the file exists but could not be read
+     */
+    public static TsManifest read(Path file) throws IOException {
+        TsManifest manifest = new TsManifest();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return manifest;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ", 4);
+                if (parts.length < 4) {
+                    return new TsManifest();
+                }
+                manifest.put(Path.of(parts[3]), new Entry(
+                        Long.parseUnsignedLong(parts[0], 16),
+                        Long.parseUnsignedLong(parts[1], 16),
+                        Long.parseLong(parts[2])));
+            }
+        } catch (NoSuchFileException e) {
+            return manifest;
+        } catch (NumberFormatException e) {
+            return new TsManifest();
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes the manifest atomically to the given file
+     *
+     * @param file The manifest file
+     * @throws IOException if the file could not be written
+     */
+    public void write(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+                    Entry value = entry.getValue();
+                    writer.write(Long.toHexString(value.modelFingerprint()));
+                    writer.write(' ');
+                    writer.write(Long.toHexString(value.outputChecksum()));
+                    writer.write(' ');
+                    writer.write(Long.toString(value.outputSize()));
+                    writer.write(' ');
+                    writer.write(toString(entry.getKey()));
+                    writer.write('\n');
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Entry get(Path path) {
+        return entries.get(path);
+    }
+
+    public TsManifest put(Path path, Entry entry) {
+        entries.put(path, entry);
+        return this;
+    }
+
+    /**
+     * @return The entries by the path of the output file relative to the output directory
+     */
+    public Map<Path, Entry> getEntries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private static String toString(Path path) {
+        // independent of the file system, so a manifest can be checked in
+        StringBuilder sb = new StringBuilder();
+        for (Path name : path) {
+            if (!sb.isEmpty()) {
+                sb.append('/');
+            }
+            sb.append(name);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,364 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.FileUpdateChannel;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.UnknownElementException;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A set of {@link TsFile files} with their output paths. The files are rendered
+ * and written in parallel on the configured {@link Executor} (by default the
+ * {@link ForkJoinPool#commonPool() common pool}). On Java 21 or newer a virtual
+ * thread executor can be used as well.
+ * </p>
+ * <p>
+ * Each file is rendered with its own {@link TsContext} created by the
+ * {@link #setContextFactory(Supplier) context factory}, so the result does not
+ * depend on the number of threads.
+ * </p>
+ * <p>
+ * Writing an element which is not frozen resolves its duplicated children, which
+ * modifies the element. Therefore, all files are {@link TsFile#freeze() frozen}
+ * one after another before they are rendered in parallel, so elements can be
+ * shared between files. The files cannot be modified after they have been built
+ * or written.
+ * </p>
+ */
+@Getter
+public class TsProject {
+
+    private final Map<Path, TsFile> files = new LinkedHashMap<>();
+    private final TsImportPaths importPaths = new TsImportPaths();
+    private Executor executor = ForkJoinPool.commonPool();
+    private Supplier<TsContext> contextFactory = TsContext::new;
+
+    /**
+     * If enabled, which is the default, files whose content did not change are
+     * not written again and keep their modification time.
+     */
+    private boolean skipUnchanged = true;
+
+    /**
+     * If set, the {@link TsManifest manifest} of the last write is kept in this file.
+     * A relative path is resolved against the output directory.
+     */
+    private Path manifestFile;
+
+    /**
+     * Built on the first lookup of a symbol and discarded if a file is added
+     */
+    @Getter(AccessLevel.NONE)
+    private TsSymbolTable symbolTable;
+
+    /**
+     * Adds the file with its {@link TsFile#getName() name} as path.
+     *
+     * @param file The file to add
+     * @return this
+     */
+    public TsProject addFile(TsFile file) {
+        return addFile(Path.of(file.getName()), file);
+    }
+
+    /**
+     * Adds the file with the given path. If there is already a file with the
+     * same path both files will be merged together.
+     *
+     * @param path The path of the file relative to the output directory
+     * @param file The file to add
+     * @return this
+     * @throws IllegalArgumentException if the path is absolute or leads out of the output directory
+     */
+    public TsProject addFile(Path path, TsFile file) {
+        Path normalized = path.normalize();
+        if (!isInsideOutputDirectory(normalized)) {
+            throw new IllegalArgumentException("The path of a file must be inside the output directory but was " + path);
+        }
+        this.files.merge(normalized, file, TsFile::merge);
+        this.symbolTable = null;
+        return this;
+    }
+
+    /**
+     * <p>
+     * The exported symbols of all files. The table is built on the first call and
+     * kept until another file is added. Use {@link TsSymbolTable#register(String, Path)}
+     * for symbols which are not found automatically or which have been declared after
+     * the table has been built.
+     * </p>
+     *
+     * @return The symbol table of this project
+     */
+    public TsSymbolTable getSymbolTable() {
+        if (symbolTable == null) {
+            symbolTable = TsSymbolTable.of(files);
+        }
+        return symbolTable;
+    }
+
+    /**
+     * Imports the given symbols into a file. The file which exports a symbol is looked
+     * up in the {@link #getSymbolTable() symbol table} and the relative path of the
+     * import is computed. Symbols declared by the file itself are not imported.
+     * <pre>{@code
+     * project.addImport(Path.of("services", "user.service.ts"), "User");
+     * // import {User} from '../models/user';
+     * }</pre>
+     *
+     * @param file    The path of the importing file
+     * @param symbols The exported symbols to import
+     * @return this
+     * @throws UnknownElementException if the project has no file with the given path
+     * @throws UnknownSymbolException  if no file exports one of the symbols
+     */
+    public TsProject addImport(Path file, String... symbols) {
+        Path path = file.normalize();
+        TsFile tsFile = files.get(path);
+        if (tsFile == null) {
+            throw new UnknownElementException("No file with path %s found".formatted(path));
+        }
+        TsSymbolTable table = getSymbolTable();
+        for (String symbol : symbols) {
+            Path target = table.get(symbol);
+            if (!target.equals(path)) {
+                tsFile.addImport(symbol, importPaths.relativize(path, target));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return The imports between the files of this project
+     */
+    public TsImportGraph getImportGraph() {
+        return TsImportGraph.of(files);
+    }
+
+    /**
+     * Same as {@link TsImportGraph#findCycles() getImportGraph().findCycles()}
+     *
+     * @return The files of each import cycle. Empty if there are no cycles.
+     */
+    public List<List<Path>> findImportCycles() {
+        return getImportGraph().findCycles();
+    }
+
+    public TsProject addFiles(TsFile... files) {
+        for (TsFile file : files) {
+            addFile(file);
+        }
+        return this;
+    }
+
+    public TsProject setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    public TsProject setContextFactory(Supplier<TsContext> contextFactory) {
+        this.contextFactory = Objects.requireNonNull(contextFactory);
+        return this;
+    }
+
+    public TsProject setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Enables incremental writes. The {@link TsFingerprint fingerprint} of each file
+     * model and the checksum of its output are kept in the given manifest file. Files
+     * whose model did not change since the last write are not rendered at all, as
+     * long as their output still exists with the recorded size. Output files of the
+     * last write which are no longer part of the project are deleted. Paths of the
+     * manifest which are absolute or lead out of the output directory are ignored.
+     * </p>
+     * The context created by the {@link #setContextFactory(Supplier) context factory}
+     * is part of the fingerprint only with its indent and the registered types of its
+     * {@link TsContext#getTypeRegistry() type registry}. Delete the manifest if other
+     * settings of the context change.
+     *
+     * @param manifestFile The manifest file. A relative path is resolved against the output directory.
+     * @return this
+     */
+    public TsProject setManifestFile(Path manifestFile) {
+        this.manifestFile = manifestFile;
+        return this;
+    }
+
+    /**
+     * Renders all files including their imports in parallel. The files are frozen before.
+     *
+     * @return The content of each file by its path in the order the files have been added
+     */
+    public Map<Path, String> build() {
+        freezeFiles();
+        List<Path> paths = new ArrayList<>(files.keySet());
+        List<CompletableFuture<String>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            TsFile file = files.get(path);
+            futures.add(CompletableFuture.supplyAsync(() -> file.buildWithImports(contextFactory.get()), executor));
+        }
+        Map<Path, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            result.put(paths.get(i), join(futures.get(i)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Writes all files in parallel into the given directory. Missing directories
+     * will be created. Existing files will be replaced, unless their content
+     * did not change and {@link #setSkipUnchanged(boolean) skipUnchanged} is enabled.
+     * With a {@link #setManifestFile(Path) manifest file} unchanged models are not
+     * rendered at all. The files are frozen before.
+     *
+     * @param outputDirectory The root directory of the project
+     * @return The written, skipped and deleted files
+     * @throws IOException if any of the files could not be written. If more than one
+     *                     file fails, the error of the first file is thrown.
+     */
+    public TsWriteResult writeTo(Path outputDirectory) throws IOException {
+        Path manifestPath = manifestFile == null ? null : outputDirectory.resolve(manifestFile);
+        TsManifest previous = manifestPath == null ? new TsManifest() : TsManifest.read(manifestPath);
+        long salt = TsFingerprint.salt(contextFactory.get());
+        freezeFiles();
+
+        List<Path> paths = new ArrayList<>(files.keySet());
+        List<CompletableFuture<FileResult>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            Path target = outputDirectory.resolve(path);
+            TsFile file = files.get(path);
+            TsManifest.Entry entry = previous.get(path);
+            futures.add(CompletableFuture.supplyAsync(() -> write(file, target, entry, manifestPath != null, salt), executor));
+        }
+        List<Path> written = new ArrayList<>();
+        List<Path> skipped = new ArrayList<>();
+        int rendered = 0;
+        TsManifest manifest = new TsManifest();
+        RuntimeException failure = null;
+        for (int i = 0; i < paths.size(); i++) {
+            try {
+                FileResult result = join(futures.get(i));
+                (result.written() ? written : skipped).add(paths.get(i));
+                rendered += result.rendered() ? 1 : 0;
+                if (result.manifestEntry() != null) {
+                    manifest.put(paths.get(i), result.manifestEntry());
+                }
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        List<Path> deleted = new ArrayList<>();
+        if (manifestPath != null) {
+            for (Path path : previous.getEntries().keySet()) {
+                // the manifest may have been edited, so only files of the output directory are deleted
+                Path normalized = path.normalize();
+                if (!files.containsKey(normalized)
+                        && isInsideOutputDirectory(normalized)
+                        && Files.deleteIfExists(outputDirectory.resolve(normalized))) {
+                    deleted.add(normalized);
+                }
+            }
+            manifest.write(manifestPath);
+        }
+        if (failure instanceof UncheckedIOException e) {
+            throw e.getCause();
+        } else if (failure != null) {
+            throw failure;
+        }
+        return new TsWriteResult(written, skipped, deleted, rendered);
+    }
+
+    /**
+     * Freezes the files in the calling thread, because files which share an element
+     * would resolve its duplicated children at the same time otherwise
+     */
+    private void freezeFiles() {
+        for (TsFile file : files.values()) {
+            file.freeze();
+        }
+    }
+
+    /**
+     * @param path A normalized path
+     * @return <code>true</code> if the path is relative and does not start with <code>..</code>
+     */
+    private static boolean isInsideOutputDirectory(Path path) {
+        return !path.isAbsolute()
+                && path.getRoot() == null
+                && !path.toString().isEmpty()
+                && !path.startsWith("..");
+    }
+
+    private FileResult write(TsFile file, Path target, TsManifest.Entry previous, boolean incremental, long salt) {
+        try {
+            OptionalLong fingerprint = incremental ? TsFingerprint.of(file, salt) : OptionalLong.empty();
+            if (fingerprint.isPresent() && isUpToDate(target, previous, fingerprint.getAsLong())) {
+                return new FileResult(false, false, previous);
+            }
+            Path parent = target.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileUpdateChannel channel = skipUnchanged ? new FileUpdateChannel(target) : FileUpdateChannel.overwrite(target)) {
+                file.writeTo(channel, contextFactory.get());
+                boolean written = channel.commit();
+                TsManifest.Entry entry = fingerprint.isPresent()
+                        ? new TsManifest.Entry(fingerprint.getAsLong(), channel.getChecksum(), channel.getSize())
+                        : null;
+                return new FileResult(written, true, entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isUpToDate(Path target, TsManifest.Entry previous, long fingerprint) throws IOException {
+        return previous != null
+                && previous.modelFingerprint() == fingerprint
+                && Files.isRegularFile(target)
+                && Files.size(target) == previous.outputSize();
+    }
+
+    private record FileResult(boolean written, boolean rendered, TsManifest.Entry manifestEntry) {
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
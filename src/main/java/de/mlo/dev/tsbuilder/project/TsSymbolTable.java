@@ -0,0 +1,107 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.common.TsModifierList;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsFunction;
+import de.mlo.dev.tsbuilder.elements.interfaces.TsInterface;
+import de.mlo.dev.tsbuilder.elements.type.TsType;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Maps the exported symbols of a {@link TsProject project} to the files which
+ * declare them. Exported classes, interfaces, functions and types of the files
+ * are found automatically, default exports are not part of the table.
+ * </p>
+ * <p>
+ * A symbol can be declared by one file only, otherwise the import would be ambiguous.
+ * </p>
+ */
+public class TsSymbolTable {
+
+    private final Map<String, Path> symbols = new HashMap<>();
+
+    /**
+     * @param files The files of a project by their path
+     * @return A new table with the exported declarations of the given files
+     * @throws IllegalArgumentException if a symbol is exported by several files
+     */
+    public static TsSymbolTable of(Map<Path, TsFile> files) {
+        TsSymbolTable table = new TsSymbolTable();
+        for (Map.Entry<Path, TsFile> entry : files.entrySet()) {
+            for (TsElement<?> element : entry.getValue().getContentList()) {
+                String symbol = exportedSymbol(element);
+                if (symbol != null) {
+                    table.register(symbol, entry.getKey());
+                }
+            }
+        }
+        return table;
+    }
+
+    private static String exportedSymbol(TsElement<?> element) {
+        if (element instanceof TsClass clazz && isNamedExport(clazz.getModifierList())) {
+            return clazz.getName();
+        } else if (element instanceof TsInterface tsInterface && isNamedExport(tsInterface.getModifierList())) {
+            return tsInterface.getName();
+        } else if (element instanceof TsFunction function && isNamedExport(function.getModifierList())) {
+            return function.getName();
+        } else if (element instanceof TsType type && isNamedExport(type.getModifierList())) {
+            return type.getName();
+        }
+        return null;
+    }
+
+    private static boolean isNamedExport(TsModifierList modifierList) {
+        return modifierList.isExport() && !modifierList.isDefault();
+    }
+
+    /**
+     * Adds a symbol which is not found automatically, e.g. an exported constant.
+     *
+     * @param symbol The exported symbol
+     * @param file   The path of the file which exports the symbol
+     * @return this
+     * @throws IllegalArgumentException if the symbol is already exported by another file
+     */
+    public TsSymbolTable register(String symbol, Path file) {
+        Path normalized = file.normalize();
+        Path existing = symbols.putIfAbsent(symbol, normalized);
+        if (existing != null && !existing.equals(normalized)) {
+            throw new IllegalArgumentException("The symbol %s is exported by %s and %s"
+                    .formatted(symbol, existing, normalized));
+        }
+        return this;
+    }
+
+    /**
+     * @param symbol An exported symbol
+     * @return The path of the file which exports the symbol
+     */
+    public Optional<Path> find(String symbol) {
+        return Optional.ofNullable(symbols.get(symbol));
+    }
+
+    /**
+     * @param symbol An exported symbol
+     * @return The path of the file which exports the symbol
+     * @throws UnknownSymbolException if no file exports the symbol
+     */
+    public Path get(String symbol) {
+        return find(symbol).orElseThrow(() -> new UnknownSymbolException("No file exports the symbol %s".formatted(symbol)));
+    }
+
+    /**
+     * @return All symbols with the path of the file which exports them
+     */
+    public Map<String, Path> getSymbols() {
+        return Collections.unmodifiableMap(symbols);
+    }
+}
@@ -0,0 +1,61 @@
+package de.mlo.dev.tsbuilder.project;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The result of {@link TsProject#writeTo(Path)}. The paths are relative to the
+ * output directory in the order the files have been added to the project.
+ */
+@Getter
+public class TsWriteResult {
+
+    /**
+     * The files which have been created or replaced
+     */
+    private final List<Path> writtenFiles;
+
+    /**
+     * The files which have not been written because their content or their model did not change
+     */
+    private final List<Path> skippedFiles;
+
+    /**
+     * The output files of the last write which are no longer part of the project.
+     * Only known with a {@link TsProject#setManifestFile(Path) manifest file}.
+     */
+    private final List<Path> deletedFiles;
+
+    /**
+     * The number of files which have been rendered. Without a
+     * {@link TsProject#setManifestFile(Path) manifest file} every file is rendered.
+     */
+    private final int renderedCount;
+
+    TsWriteResult(List<Path> writtenFiles, List<Path> skippedFiles, List<Path> deletedFiles, int renderedCount) {
+        this.writtenFiles = List.copyOf(writtenFiles);
+        this.skippedFiles = List.copyOf(skippedFiles);
+        this.deletedFiles = List.copyOf(deletedFiles);
+        this.renderedCount = renderedCount;
+    }
+
+    public int getWrittenCount() {
+        return writtenFiles.size();
+    }
+
+    public int getSkippedCount() {
+        return skippedFiles.size();
+    }
+
+    public int getDeletedCount() {
+        return deletedFiles.size();
+    }
+
+    @Override
+    public String toString() {
+        return "%d files written, %d unchanged files skipped, %d files deleted, %d files rendered"
+                .formatted(getWrittenCount(), getSkippedCount(), getDeletedCount(), renderedCount);
+    }
+}
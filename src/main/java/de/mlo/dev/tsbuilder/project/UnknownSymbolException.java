@@ -0,0 +1,7 @@
+package de.mlo.dev.tsbuilder.project;
+
+public class UnknownSymbolException extends RuntimeException {
+    public UnknownSymbolException(String message) {
+        super(message);
+    }
+}
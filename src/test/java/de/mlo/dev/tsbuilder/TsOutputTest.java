@@ -0,0 +1,40 @@
+package de.mlo.dev.tsbuilder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsOutputTest {
+
+    @Test
+    void indent_like_string_indent() {
+        for (String body : new String[]{"", "a", "a\n", "a\nb", "a\n\nb\n", "\n", "a\n\n"}) {
+            StringBuilder sb = new StringBuilder();
+            new TsOutput(sb)
+                    .append("{\n")
+                    .indent(2)
+                    .append(body)
+                    .outdent()
+                    .append('}');
+
+            assertThat(sb.toString()).isEqualTo("{\n" + body.indent(2) + "}");
+        }
+    }
+
+    @Test
+    void nested_indent() {
+        StringBuilder sb = new StringBuilder();
+        new TsOutput(sb)
+                .append("a {\n")
+                .indent(2)
+                .append("b {\n")
+                .indent(2)
+                .append("c;\n\nd;")
+                .outdent()
+                .append("}")
+                .outdent()
+                .append("}");
+
+        assertThat(sb.toString()).isEqualTo("a {\n" + ("b {\n" + "c;\n\nd;".indent(2) + "}").indent(2) + "}");
+    }
+}
@@ -59,4 +59,42 @@ class ContentMergerTest {
                   foo: string = 'bar';
                 }""");
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolve_keeps_order_of_interleaved_duplicates(){
+        TsElementList list = new TsElementList();
+        list.add(new TsMethod("a").addContent("// a1"));
+        list.add(TsField.string("b", "b"));
+        list.add(new TsMethod("c").addContent("// c1"));
+        list.add(new TsMethod("a").addContent("// a2"));
+        list.add(new TsMethod("c").addContent("// c2"));
+        list.add(new TsMethod("a").addContent("// a3"));
+
+        TsElementList resolved = list.resolveDuplications();
+
+        Assertions.assertThat(resolved.build(new TsContext())).isEqualTo("""
+                a () {
+                  // a1
+                  // a2
+                  // a3
+                }
+                b: string = 'b';
+                c () {
+                  // c1
+                  // c2
+                }""");
+    }
+
+    @Test
+    void resolve_many_elements(){
+        TsElementList list = new TsElementList();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(new TsMethod("method" + (i % 10_000)).addContent("// " + i));
+        }
+
+        TsElementList resolved = list.resolveDuplications();
+
+        Assertions.assertThat(resolved.size()).isEqualTo(10_000);
+        Assertions.assertThat(((TsMethod) resolved.get(0)).getContentList().size()).isEqualTo(2);
+    }
+}
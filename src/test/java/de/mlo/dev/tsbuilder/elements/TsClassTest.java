@@ -206,4 +206,18 @@ class TsClassTest {
 
         System.out.println(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void write_into_appendable() {
+        TsClass tsClass = new TsClass("MyClass")
+                .setExport()
+                .addContent(new TsMethod("ping")
+                        .setPublic()
+                        .addContent("console.log('pong');"));
+
+        StringBuilder sb = new StringBuilder();
+        tsClass.write(new TsContext(sb));
+
+        assertThat(sb.toString()).isEqualTo(tsClass.build());
+    }
+}
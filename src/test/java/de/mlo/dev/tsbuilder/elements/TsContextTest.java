@@ -0,0 +1,55 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import de.mlo.dev.tsbuilder.elements.values.StringValue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsContextTest {
+
+    @Test
+    void elements_are_not_retained_by_default() {
+        TsClass clazz = new TsClass("MyClass")
+                .addMethod(new TsMethod("foo"));
+        clazz.addImport("Foo", "./foo");
+        TsContext context = new TsContext();
+
+        clazz.build(context);
+
+        assertThat(context.getElementList()).isEmpty();
+        assertThat(context.compileImports()).isEqualTo("import {Foo} from './foo';\n\n");
+    }
+
+    @Test
+    void elements_are_retained_on_demand() {
+        TsClass clazz = new TsClass("MyClass");
+        TsContext context = new TsContext();
+        context.setRetainElements(true);
+
+        clazz.build(context);
+
+        assertThat(context.getElementList().size()).isEqualTo(1);
+        assertThat(context.getElementList().get(0) == clazz).isTrue();
+    }
+
+    @Test
+    void before_and_after_content_is_written_once() {
+        StringValue value = new StringValue("bar");
+        value.addBeforeElementContent(TsElement.literal("/* before */"));
+        value.addAfterElementContent(TsElement.literal("/* after */"));
+
+        String result = new TsClass("MyClass")
+                .addField(new TsField("foo").setValue(value))
+                .build();
+
+        assertThat(result).isEqualTo("""
+                class MyClass{
+                  foo = /* before */
+                  'bar'
+                  /* after */;
+                }""");
+    }
+}
@@ -0,0 +1,70 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsElementFreezeTest {
+
+    private static TsClass createClass() {
+        TsClass clazz = new TsClass("Foo")
+                .setExport()
+                .addField(TsField.string("name", "foo"))
+                .addMethod(new TsMethod("run").addContent("// first"))
+                .addMethod(new TsMethod("run").addContent("// second"));
+        clazz.addImport("Bar", "./bar");
+        return clazz;
+    }
+
+    @Test
+    void frozen_element_renders_the_same_content() {
+        String expected = createClass().buildWithImports(new TsContext());
+
+        TsClass frozen = createClass().freeze();
+
+        assertThat(frozen.isFrozen()).isTrue();
+        assertThat(frozen.buildWithImports(new TsContext())).isEqualTo(expected);
+        assertThat(frozen.buildWithImports(new TsContext())).isEqualTo(expected);
+    }
+
+    @Test
+    void duplicates_are_resolved_while_freezing() {
+        TsClass frozen = createClass().freeze();
+
+        assertThat(frozen.getContentList().size()).isEqualTo(2);
+    }
+
+    @Test
+    void frozen_element_cannot_be_modified() {
+        TsClass frozen = createClass().freeze();
+        TsField field = (TsField) frozen.getContentList().get(0);
+
+        assertThatThrownBy(() -> frozen.addMethod(new TsMethod("stop")))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> frozen.addImport("Baz", "./baz"))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> frozen.setSuperClass("Base"))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> frozen.addImplements("Runnable"))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> field.setOptional(true))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> frozen.getMethod("run").orElseThrow().addContent("// third"))
+                .isInstanceOf(FrozenElementException.class);
+    }
+
+    @Test
+    void frozen_elements_are_equal_to_their_mutable_counterpart() {
+        TsClass mutable = createClass();
+        mutable.build(); // resolves the duplicated methods
+        TsClass frozen = createClass().freeze();
+
+        assertThat(frozen).isEqualTo(mutable);
+        assertThat(frozen.hashCode()).isEqualTo(mutable.hashCode());
+        assertThat(frozen.hashCode()).isEqualTo(frozen.hashCode());
+    }
+}
@@ -0,0 +1,48 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsElementListTest {
+
+    @Test
+    void find_methods_by_name() {
+        TsMethod getter = new TsMethod("value").addModifiers("get");
+        TsMethod setter = new TsMethod("value").addModifiers("set");
+        TsElementList list = new TsElementList();
+        list.add(TsElement.literal("// literal"));
+        list.addAll(List.of(getter, setter));
+
+        assertThat(list.findMethod("value").orElseThrow() == getter).isTrue();
+        assertThat(list.findGetterMethod("value").orElseThrow() == getter).isTrue();
+        assertThat(list.findSetterMethod("value").orElseThrow() == setter).isTrue();
+        assertThat(list.findMethod("unknown").isEmpty()).isTrue();
+    }
+
+    @Test
+    void index_follows_modifications() {
+        TsMethod first = new TsMethod("foo");
+        TsMethod second = new TsMethod("bar");
+        TsElementList list = new TsElementList();
+        list.add(first);
+        assertThat(list.findMethod("foo").isPresent()).isTrue();
+
+        list.add(second);
+        assertThat(list.findMethod("bar").orElseThrow() == second).isTrue();
+
+        list.remove(first);
+        assertThat(list.findMethod("foo").isPresent()).isFalse();
+
+        TsMethod replacement = new TsMethod("baz");
+        list.set(0, replacement);
+        assertThat(list.findMethod("bar").isPresent()).isFalse();
+        assertThat(list.findMethod("baz").orElseThrow() == replacement).isTrue();
+
+        replacement.addModifiers("get");
+        assertThat(list.findGetterMethod("baz").orElseThrow() == replacement).isTrue();
+    }
+}
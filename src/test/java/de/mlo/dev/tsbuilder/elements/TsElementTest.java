@@ -0,0 +1,37 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.values.NumberValue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsElementTest {
+
+    @Test
+    void empty_collections_are_shared() {
+        NumberValue first = new NumberValue(1);
+        NumberValue second = new NumberValue(2);
+
+        assertThat(first.getImportList() == second.getImportList()).isTrue();
+        assertThat(first.getBeforeElementContent() == second.getAfterElementContent()).isTrue();
+        assertThatThrownBy(() -> first.getImportList().add(null))
+                .isInstanceOf(FrozenElementException.class);
+    }
+
+    @Test
+    void collections_are_created_on_first_write() {
+        NumberValue value = new NumberValue(1)
+                .addBeforeElementContent(TsElement.literal("/* before */"));
+        value.addImport("Foo", "./foo");
+
+        assertThat(value.getBeforeElementContent().size()).isEqualTo(1);
+        assertThat(value.getAfterElementContent().isEmpty()).isTrue();
+        assertThat(value.buildWithImports()).isEqualTo("""
+                import {Foo} from './foo';
+
+                /* before */
+                1""");
+        assertThat(new NumberValue(2).getImportList().isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsElementVisitorTest {
+
+    private static TsFile createFile() {
+        TsField field = TsField.custom("user", "User");
+        field.addImport("User", "./user");
+        TsMethod method = new TsMethod("load")
+                .addParameter(TsFunctionParameter.custom("id", "UserId"))
+                .addContent("// load");
+        method.addImport("UserId", "./user");
+        TsClass clazz = new TsClass("UserService")
+                .addField(field)
+                .addMethod(method);
+        clazz.addImport("Injectable", "@angular/core");
+        return new TsFile("user.service.ts").addClass(clazz);
+    }
+
+    @Test
+    void elements_are_visited_in_written_order() {
+        List<String> visited = new ArrayList<>();
+        createFile().accept(new TsElementVisitor() {
+            @Override
+            public boolean enter(TsElement<?> element) {
+                visited.add("+" + element.getClass().getSimpleName());
+                return true;
+            }
+
+            @Override
+            public void leave(TsElement<?> element) {
+                visited.add("-" + element.getClass().getSimpleName());
+            }
+        });
+
+        assertThat(visited).isEqualTo(List.of(
+                "+TsFile",
+                "+TsClass",
+                "+TsField", "+TsSimpleType", "-TsSimpleType", "-TsField",
+                "+TsMethod", "+TsFunctionParameter", "+Literal", "-Literal", "-TsFunctionParameter",
+                "+Literal", "-Literal", "-TsMethod",
+                "-TsClass",
+                "-TsFile"));
+    }
+
+    @Test
+    void children_are_skipped_if_requested() {
+        List<String> visited = new ArrayList<>();
+        createFile().accept(element -> {
+            visited.add(element.getClass().getSimpleName());
+            return !(element instanceof TsClass);
+        });
+
+        assertThat(visited).isEqualTo(List.of("TsFile", "TsClass"));
+    }
+
+    @Test
+    void imports_are_collected_without_writing() {
+        TsFile file = createFile();
+        TsContext context = new TsContext();
+        file.build(context);
+
+        assertThat(file.collectImports().build()).isEqualTo(context.compileImports());
+    }
+}
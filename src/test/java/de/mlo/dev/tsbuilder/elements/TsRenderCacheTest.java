@@ -0,0 +1,89 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.decorator.TsDecorator;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsRenderCacheTest {
+
+    private static TsClass createClass(TsDecorator decorator) {
+        TsClass clazz = new TsClass("Foo").setExport();
+        for (int i = 0; i < 3; i++) {
+            clazz.addField(TsField.string("field" + i, "value").addDecorator(decorator));
+        }
+        clazz.addMethod(new TsMethod("run").addContent(TsElement.literal("// run")));
+        return clazz;
+    }
+
+    @Test
+    void cached_output_is_the_same() {
+        TsDecorator decorator = new TsDecorator("Input");
+        decorator.addImport("Input", "@angular/core");
+        String expected = createClass(decorator).buildWithImports(new TsContext());
+
+        TsRenderCache cache = new TsRenderCache();
+        TsContext context = new TsContext();
+        context.setRenderCache(cache);
+        decorator.freeze();
+
+        assertThat(createClass(decorator).buildWithImports(context)).isEqualTo(expected);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void indent_is_part_of_the_key() {
+        TsClass clazz = createClass(new TsDecorator("Input")).freeze();
+        TsRenderCache cache = new TsRenderCache();
+
+        TsContext twoSpaces = new TsContext();
+        twoSpaces.setRenderCache(cache);
+        TsContext fourSpaces = new TsContext();
+        fourSpaces.setIndent(4);
+        fourSpaces.setRenderCache(cache);
+
+        TsContext uncached = new TsContext();
+        uncached.setIndent(4);
+        assertThat(clazz.build(twoSpaces)).isEqualTo(clazz.build(new TsContext()));
+        assertThat(clazz.build(fourSpaces)).isEqualTo(clazz.build(uncached));
+        long misses = cache.getMissCount();
+        long hits = cache.getHitCount();
+
+        // the whole class is cached now
+        assertThat(clazz.build(fourSpaces)).isEqualTo(clazz.build(uncached));
+        assertThat(cache.getMissCount()).isEqualTo(misses);
+        assertThat(cache.getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void least_recently_used_entries_are_evicted() {
+        TsRenderCache cache = new TsRenderCache(2);
+        TsContext context = new TsContext();
+        context.setRenderCache(cache);
+
+        TsElement<?> first = TsElement.literal("first").freeze();
+        first.build(context);
+        TsElement.literal("second").freeze().build(context);
+        first.build(context);
+        TsElement.literal("third").freeze().build(context);
+
+        assertThat(cache.size()).isEqualTo(2);
+        first.build(context);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void mutable_elements_are_not_cached() {
+        TsRenderCache cache = new TsRenderCache();
+        TsContext context = new TsContext();
+        context.setRenderCache(cache);
+
+        createClass(new TsDecorator("Input")).build(context);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,68 @@
+package de.mlo.dev.tsbuilder.elements;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.decorator.TsDecorator;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsRenderPlanTest {
+
+    private static TsClass createEntity(String name, String idType, String importPath) {
+        TsClass clazz = new TsClass(name)
+                .setExport()
+                .addDecorator(new TsDecorator("Entity"))
+                .addField(TsField.custom("id", idType).addDecorator(new TsDecorator("Id")))
+                .addField(TsField.optionalString("label").addSetter(new TsDecorator("Input")))
+                .addMethod(new TsMethod("load")
+                        .addParameter(TsFunctionParameter.custom("id", idType))
+                        .addContent("// load " + name));
+        clazz.addImport(idType, importPath);
+        return clazz;
+    }
+
+    @Test
+    void plan_renders_the_same_as_the_element() {
+        TsRenderPlan plan = TsRenderPlan.compile(slots ->
+                createEntity(slots.slot("name"), slots.slot("idType"), "./" + slots.slot("module")));
+
+        assertThat(plan.getSlotNames()).isEqualTo(List.of("name", "idType", "module"));
+        for (String name : new String[]{"User", "Order", "Address"}) {
+            Map<String, String> bindings = Map.of("name", name, "idType", name + "Id", "module", "ids");
+            TsClass expected = createEntity(name, name + "Id", "./ids");
+
+            assertThat(plan.build(bindings)).isEqualTo(expected.build());
+            assertThat(plan.buildWithImports(bindings)).isEqualTo(expected.buildWithImports());
+        }
+    }
+
+    @Test
+    void plan_is_written_with_the_indent_of_the_output() {
+        TsRenderPlan plan = TsRenderPlan.compile(slots -> new TsMethod(slots.slot("name")).addContent("// body"));
+        TsContext context = new TsContext();
+
+        String result = context.capture(() -> context.writeIndented(() -> plan.write(context, Map.of("name", "run"))));
+
+        assertThat(result).isEqualTo(context.capture(() ->
+                context.writeIndented(() -> new TsMethod("run").addContent("// body").write(context))));
+    }
+
+    @Test
+    void every_slot_has_to_be_bound() {
+        TsRenderPlan plan = TsRenderPlan.compile(slots -> new TsClass(slots.slot("name")));
+
+        assertThatThrownBy(() -> plan.build(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        TsContext context = new TsContext();
+        context.setIndent(4);
+        assertThatThrownBy(() -> plan.write(context, Map.of("name", "Foo")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,9 @@ package de.mlo.dev.tsbuilder.elements.clazz.field;
 import de.mlo.dev.tsbuilder.elements.MergeException;
 import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
 import de.mlo.dev.tsbuilder.elements.decorator.TsDecorator;
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import de.mlo.dev.tsbuilder.elements.values.LongArrayValue;
+import de.mlo.dev.tsbuilder.elements.values.StringArrayValue;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,4 +99,13 @@ class TsFieldTest {
         assertThatThrownBy(clazz::build)
                 .isInstanceOf(MergeException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void array_fields_derive_their_type_from_the_value() {
+        assertThat(TsField.numberArray("ints", new int[]{1}).build()).isEqualTo("ints: number[] = [1];");
+        assertThat(TsField.typedArray("ids", TsTypedArray.BIG_INT64, new LongArrayValue(1)).build())
+                .isEqualTo("ids: BigInt64Array = new BigInt64Array([1n]);");
+        assertThat(TsField.stringArray("values", new StringArrayValue("a")).build())
+                .isEqualTo("values: string[] = ['a'];");
+    }
+}
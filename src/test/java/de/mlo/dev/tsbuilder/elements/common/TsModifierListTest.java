@@ -0,0 +1,72 @@
+package de.mlo.dev.tsbuilder.elements.common;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsModifierListTest {
+
+    @Test
+    void keeps_insertion_order() {
+        TsModifierList modifierList = new TsModifierList();
+        modifierList.setPublic();
+        modifierList.add(new TsModifier("override"));
+        modifierList.setStatic();
+        modifierList.setPublic();
+
+        assertThat(modifierList.build(new TsContext())).isEqualTo("public override static");
+        assertThat(modifierList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void well_known_modifiers_are_flags() {
+        TsModifierList modifierList = new TsModifierList();
+        modifierList.add(new TsModifier("get"));
+
+        assertThat(modifierList.isGetter()).isTrue();
+        assertThat(modifierList.isSetter()).isFalse();
+        assertThat(modifierList.contains(new TsModifier("get"))).isTrue();
+        assertThat(modifierList.contains(new TsModifier("custom"))).isFalse();
+    }
+
+    @Test
+    void remove_updates_flags_and_rendering() {
+        TsModifierList modifierList = new TsModifierList();
+        modifierList.setExport();
+        modifierList.setDefault();
+        assertThat(modifierList.build(new TsContext())).isEqualTo("export default");
+
+        Iterator<TsModifier> iterator = modifierList.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(modifierList.isExport()).isFalse();
+        assertThat(modifierList.build(new TsContext())).isEqualTo("default");
+    }
+
+    @Test
+    void modifiers_in_any_order_are_written_as_added() {
+        TsModifierList ordered = new TsModifierList();
+        ordered.setPublic();
+        ordered.setStatic();
+        ordered.setReadonly();
+        TsModifierList reversed = new TsModifierList();
+        reversed.setReadonly();
+        reversed.setStatic();
+        reversed.setPublic();
+
+        assertThat(ordered.build(new TsContext())).isEqualTo("public static readonly");
+        assertThat(reversed.build(new TsContext())).isEqualTo("readonly static public");
+
+        reversed.remove(new TsModifier("readonly"));
+        reversed.remove(new TsModifier("static"));
+        reversed.setAsync();
+        assertThat(reversed.build(new TsContext())).isEqualTo("public async");
+        reversed.clear();
+        reversed.setExport();
+        assertThat(reversed.build(new TsContext())).isEqualTo("export");
+    }
+}
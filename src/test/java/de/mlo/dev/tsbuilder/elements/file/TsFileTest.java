@@ -1,5 +1,10 @@
 package de.mlo.dev.tsbuilder.elements.file;
 
+import de.mlo.dev.tsbuilder.ChannelOutput;
+import de.mlo.dev.tsbuilder.FileUpdateChannel;
+import de.mlo.dev.tsbuilder.TsElementWriter;
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsElement;
 import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
 import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
 import de.mlo.dev.tsbuilder.elements.function.TsFunction;
@@ -12,7 +17,22 @@ import de.mlo.dev.tsbuilder.elements.type.ComplexType;
 import de.mlo.dev.tsbuilder.elements.type.TsType;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TsFileTest {
 
@@ -192,4 +212,193 @@ class TsFileTest {
                   // Calculate some stuff
                 }""");
     }
-}
\ No newline at end of file
+
+    @Test
+    void write_to_path() throws IOException {
+        TsFile file = new TsFile("distance.ts")
+                .addFunction(new TsFunction("calculateDistance")
+                        .addContent("// \u00e4\u00f6\u00fc \uD83D\uDE80"))
+                .addClass(new TsClass("Route")
+                        .addMethod(new TsMethod("start").addContent("// first"))
+                        .addMethod(new TsMethod("start").addContent("// second")));
+        file.addImport("Distance", "./my-types");
+        Path path = Files.createTempFile("distance", ".ts");
+
+        try {
+            file.writeTo(path);
+
+            assertThat(Files.readString(path, StandardCharsets.UTF_8)).isEqualTo(file.buildWithImports());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void write_to_channel_with_small_buffer() throws IOException {
+        TsFile file = new TsFile("examples.ts")
+                .addClass(new TsClass("Rocket")
+                        .addMethod(new TsMethod("launch").addContent("// \uD83D\uDE80\uD83D\uDE80\uD83D\uDE80 \u00e4\u00f6\u00fc")));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        file.writeTo(new ChannelOutput(Channels.newChannel(bytes), 3, StandardCharsets.UTF_8), new TsContext());
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo(file.buildWithImports());
+    }
+
+    @Test
+    void write_if_changed() throws IOException {
+        Path directory = Files.createTempDirectory("ts-file");
+        Path path = directory.resolve("rocket.ts");
+        TsClass rocket = new TsClass("Rocket")
+                .addMethod(new TsMethod("launch").addContent("// \uD83D\uDE80"));
+        TsFile file = new TsFile("rocket.ts").addClass(rocket);
+
+        try {
+            assertThat(file.writeIfChanged(path, new TsContext())).isTrue();
+            assertThat(Files.readString(path)).isEqualTo(file.buildWithImports());
+
+            FileTime lastModified = FileTime.fromMillis(0);
+            Files.setLastModifiedTime(path, lastModified);
+            assertThat(file.writeIfChanged(path, new TsContext())).isFalse();
+            assertThat(Files.getLastModifiedTime(path)).isEqualTo(lastModified);
+
+            rocket.addMethod(new TsMethod("land"));
+            assertThat(file.writeIfChanged(path, new TsContext())).isTrue();
+            assertThat(Files.readString(path)).isEqualTo(file.buildWithImports());
+
+            TsFile prefix = new TsFile("rocket.ts").addClass(new TsClass("Rocket"));
+            Files.writeString(path, prefix.buildWithImports() + "\n// more");
+            assertThat(prefix.writeIfChanged(path, new TsContext())).isTrue();
+            assertThat(Files.readString(path)).isEqualTo(prefix.buildWithImports());
+
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.toList()).isEqualTo(List.of(path));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void file_update_channel_compares_chunk_by_chunk() throws IOException {
+        Path path = Files.createTempFile("examples", ".ts");
+        TsFile file = new TsFile("examples.ts")
+                .addClass(new TsClass("Rocket")
+                        .addMethod(new TsMethod("launch").addContent("// \uD83D\uDE80\uD83D\uDE80 \u00e4\u00f6\u00fc")));
+
+        try {
+            Files.writeString(path, file.buildWithImports());
+            try (FileUpdateChannel channel = new FileUpdateChannel(path)) {
+                file.writeTo(new ChannelOutput(channel, 3, StandardCharsets.UTF_8), new TsContext());
+
+                CRC32C crc = new CRC32C();
+                crc.update(file.buildWithImports().getBytes(StandardCharsets.UTF_8));
+                assertThat(channel.getChecksum()).isEqualTo(crc.getValue());
+                assertThat(channel.commit()).isFalse();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static TsFile createLargeFile() {
+        TsFile file = new TsFile("services.ts");
+        for (int i = 0; i < 200; i++) {
+            TsClass clazz = new TsClass("Service" + i)
+                    .setExport()
+                    .addMethod(new TsMethod("load")
+                            .addParameter(new TsFunctionParameter("model").setType("Model" + (i % 7)))
+                            .addContent("// load " + i));
+            clazz.addImport("Model" + (i % 7), "./models/model-" + (i % 7));
+            clazz.addImport("Injectable", "@angular/core");
+            file.addClass(clazz);
+        }
+        return file;
+    }
+
+    @Test
+    void parallel_rendering_keeps_import_order() {
+        String sequential = createLargeFile().buildWithImports(new TsContext());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TsContext context = new TsContext();
+            context.setExecutor(executor);
+            String parallel = createLargeFile().freeze().buildWithImports(context);
+
+            assertThat(parallel).isEqualTo(sequential);
+            assertThat(parallel).startsWith("""
+                    import {Model0} from './models/model-0';
+                    import {Injectable} from '@angular/core';
+                    import {Model1} from './models/model-1';
+                    """);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_rendering_writes_imports_first() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TsContext context = new TsContext();
+            context.setExecutor(executor);
+            StringBuilder sb = new StringBuilder();
+            context.redirect(sb, () -> createLargeFile().freeze().writeWithImports(context));
+
+            assertThat(sb.toString()).isEqualTo(createLargeFile().buildWithImports(new TsContext()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void only_frozen_files_are_rendered_in_parallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger tasks = new AtomicInteger();
+            TsContext context = new TsContext();
+            context.setExecutor(task -> {
+                tasks.incrementAndGet();
+                executor.execute(task);
+            });
+            TsFile file = createLargeFile();
+
+            String sequential = file.build(context);
+
+            assertThat(tasks.get()).isEqualTo(0);
+            assertThat(file.getContentList().get(0).isFrozen()).isFalse();
+
+            assertThat(file.freeze().build(context)).isEqualTo(sequential);
+            assertThat(tasks.get()).isGreaterThan(0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_rendering_reports_failures() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TsContext context = new TsContext();
+            context.setExecutor(executor);
+            TsFile file = createLargeFile();
+            file.add(new FailingElement());
+            file.freeze();
+
+            assertThatThrownBy(() -> file.build(context)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class FailingElement extends TsElement<FailingElement> {
+        @Override
+        protected TsElementWriter<FailingElement> createWriter(TsContext context) {
+            return TsElementWriter.wrap(context, this, () -> {
+                throw new IllegalStateException("Cannot be written");
+            });
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.mlo.dev.tsbuilder.elements.imports;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsImportListTest {
+
+    @Test
+    void imports_are_grouped_by_path() {
+        TsImportList importList = new TsImportList();
+        importList.add(new TsImport("Component", "@angular/core"));
+        importList.add(new TsImport("User", "./user"));
+        importList.add(new TsImport("Input", "@angular/core").addModuleName("Component"));
+
+        assertThat(importList.build()).isEqualTo("""
+                import {Component, Input} from '@angular/core';
+                import {User} from './user';
+
+                """);
+    }
+
+    @Test
+    void imports_are_immutable() {
+        TsImportList importList = new TsImportList();
+        TsImport tsImport = new TsImport("Component", "@angular/core");
+        importList.add(tsImport);
+
+        TsImport extended = tsImport.addModuleName("Input");
+
+        assertThat(tsImport.getModuleNames()).containsExactly("Component");
+        assertThat(importList.contains(tsImport)).isTrue();
+        assertThat(importList.contains(extended)).isFalse();
+        assertThat(importList.add(tsImport)).isFalse();
+        assertThat(importList.add(extended)).isTrue();
+        assertThat(importList.build()).isEqualTo("import {Component, Input} from '@angular/core';\n\n");
+    }
+
+    @Test
+    void bound_imports_add_module_names_to_the_list() {
+        TsImportList importList = new TsImportList();
+
+        importList.addImport("Component", "@angular/core").addModuleName("Input").addModuleName("Output");
+
+        assertThat(importList.build()).isEqualTo("import {Component, Input, Output} from '@angular/core';\n\n");
+    }
+
+    @Test
+    void imports_added_to_an_element_are_bound() {
+        TsClass clazz = new TsClass("Foo");
+        TsImport tsImport = new TsImport("Component", "@angular/core");
+
+        clazz.addImport(tsImport);
+        tsImport.addModuleName("Input");
+
+        assertThat(clazz.getImportList().build()).isEqualTo("import {Component, Input} from '@angular/core';\n\n");
+    }
+
+    @Test
+    void unbound_imports_do_not_change_the_list() {
+        TsImportList importList = new TsImportList();
+        TsImport tsImport = new TsImport("Component", "@angular/core");
+        importList.add(tsImport);
+
+        TsImport extended = tsImport.addModuleName("Input");
+
+        assertThat(extended.getModuleNames()).containsExactly("Component", "Input");
+        assertThat(importList.build()).isEqualTo("import {Component} from '@angular/core';\n\n");
+    }
+
+    @Test
+    void imports_can_be_bound_to_several_lists() {
+        TsImportList first = new TsImportList();
+        TsImportList second = new TsImportList();
+        TsImport tsImport = first.addImport(new TsImport("Component", "@angular/core"));
+        second.addImport(tsImport);
+        second.addImport(tsImport);
+
+        tsImport.addModuleName("Input").addModuleName("Output");
+
+        assertThat(first.build()).isEqualTo("import {Component, Input, Output} from '@angular/core';\n\n");
+        assertThat(second.build()).isEqualTo(first.build());
+    }
+
+    @Test
+    void imports_of_one_path_are_merged() {
+        TsImportList importList = new TsImportList();
+        for (int i = 0; i < 20_000; i++) {
+            importList.add(new TsImport("Type" + i, "./types"));
+        }
+        importList.add("Type0", "./types");
+
+        assertThat(importList.size()).isEqualTo(1);
+        assertThat(importList.getModuleNames("./types")).hasSize(20_000);
+        assertThat(importList.build()).startsWith("import {Type0, Type1, Type2, ").endsWith("Type19999} from './types';\n\n");
+    }
+
+    @Test
+    void removed_imports_are_not_built() {
+        TsImportList importList = new TsImportList();
+        TsImport user = new TsImport("User", "./user");
+        importList.add(user);
+        importList.add(new TsImport("Order", "./order"));
+
+        importList.remove(user);
+        importList.add(new TsImport("Address", "./address"));
+
+        assertThat(importList.getPaths()).containsExactly("./order", "./address");
+        assertThat(importList.build()).isEqualTo("""
+                import {Order} from './order';
+                import {Address} from './address';
+
+                """);
+    }
+}
@@ -0,0 +1,246 @@
+package de.mlo.dev.tsbuilder.elements.imports;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.TsRenderCache;
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import de.mlo.dev.tsbuilder.elements.interfaces.TsInterface;
+import de.mlo.dev.tsbuilder.elements.type.TsSimpleType;
+import de.mlo.dev.tsbuilder.elements.type.TsType;
+import de.mlo.dev.tsbuilder.elements.values.GenericValue;
+import de.mlo.dev.tsbuilder.elements.values.Literal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsTypeRegistryTest {
+
+    private static TsTypeRegistry createRegistry() {
+        return new TsTypeRegistry()
+                .register("User", "./models/user")
+                .register("Order", "./models/order")
+                .register("BaseService", "./base.service")
+                .register("OnInit", "@angular/core")
+                .register("Observable", "rxjs");
+    }
+
+    private static List<String> collect(TsTypeRegistry registry, String typeName) {
+        TsImportList imports = new TsImportList();
+        registry.collectImports(typeName, imports);
+        List<String> names = new ArrayList<>();
+        for (TsImport tsImport : imports) {
+            names.addAll(tsImport.getModuleNames());
+        }
+        return names;
+    }
+
+    @Test
+    void identifiers_of_type_expressions_are_resolved() {
+        TsTypeRegistry registry = createRegistry();
+
+        assertThat(collect(registry, "User")).containsExactly("User");
+        assertThat(collect(registry, "User[]")).containsExactly("User");
+        assertThat(collect(registry, "Observable<Order[]> | null")).containsExactly("Observable", "Order");
+        assertThat(collect(registry, "models.User")).isEmpty();
+        assertThat(collect(registry, "'User' | \"Order\"")).isEmpty();
+        assertThat(collect(registry, "string")).isEmpty();
+    }
+
+    @Test
+    void referenced_types_are_imported_while_writing() {
+        TsClass clazz = new TsClass("OrderService")
+                .setExport()
+                .setSuperClass("BaseService")
+                .addImplements("OnInit")
+                .addMethod(new TsMethod("load")
+                        .addParameter(new TsFunctionParameter("user").setType(TsSimpleType.of("User")))
+                        .addParameter(new TsFunctionParameter("order").setType("Order | null"))
+                        .addReturnType(new GenericValue("Observable").addGeneric(TsSimpleType.of("string"))));
+        TsContext context = new TsContext();
+        context.setTypeRegistry(createRegistry());
+
+        assertThat(clazz.buildWithImports(context)).startsWith("""
+                import {BaseService} from './base.service';
+                import {OnInit} from '@angular/core';
+                import {User} from './models/user';
+                import {Order} from './models/order';
+                import {Observable} from 'rxjs';
+                """);
+    }
+
+    @Test
+    void referenced_types_are_imported_while_streaming() {
+        TsFile file = new TsFile("order.service.ts")
+                .addClass(new TsClass("OrderService")
+                        .setSuperClass("BaseService")
+                        .addMethod(new TsMethod("load")
+                                .addParameter(new TsFunctionParameter("user").setType("User"))));
+        TsContext context = new TsContext();
+        context.setTypeRegistry(createRegistry());
+        TsContext streamingContext = new TsContext();
+        streamingContext.setTypeRegistry(createRegistry());
+
+        StringBuilder sb = new StringBuilder();
+        streamingContext.redirect(sb, () -> file.writeWithImports(streamingContext));
+
+        assertThat(sb.toString()).isEqualTo(file.buildWithImports(context));
+        assertThat(sb.toString()).startsWith("import {BaseService} from './base.service';");
+    }
+
+    @Test
+    void referenced_types_are_collected_before_writing() {
+        TsFile file = new TsFile("order.service.ts")
+                .addInterface(new TsInterface("User").setExport())
+                .addType(new TsType("OrderId").setValue(new Literal("Order['id']")))
+                .addClass(new TsClass("OrderService")
+                        .setSuperClass("BaseService")
+                        .addImplements("OnInit")
+                        .addField(new TsField("orders").setType(new Literal("Order[]")))
+                        .addMethod(new TsMethod("load")
+                                .addParameter(new TsFunctionParameter("user").setType(TsSimpleType.of("User")))
+                                .addReturnType(new GenericValue("Observable").addGeneric(new Literal("Order")))));
+        TsContext context = new TsContext();
+        context.setTypeRegistry(createRegistry());
+        TsContext streamingContext = new TsContext();
+        streamingContext.setTypeRegistry(createRegistry());
+
+        StringBuilder sb = new StringBuilder();
+        streamingContext.redirect(sb, () -> file.writeWithImports(streamingContext));
+
+        assertThat(sb.toString()).isEqualTo(file.buildWithImports(context));
+        assertThat(sb.toString()).contains("import {Order} from './models/order';")
+                .contains("import {Observable} from 'rxjs';")
+                .doesNotContain("import {User}");
+    }
+
+    @Test
+    void code_and_comments_are_not_looked_up() {
+        TsClass clazz = new TsClass("OrderService")
+                .addMethod(new TsMethod("load")
+                        .addContent("// the User is loaded later")
+                        .addContent("return new Order();"));
+        TsContext context = new TsContext();
+        context.setTypeRegistry(createRegistry());
+
+        assertThat(clazz.buildWithImports(context)).doesNotContain("import");
+    }
+
+    @Test
+    void declared_types_are_excluded_per_name() {
+        TsTypeRegistry registry = new TsTypeRegistry()
+                .register("User", "./models")
+                .register("Order", "./models");
+        TsImportList imports = new TsImportList();
+
+        registry.collectImports("Map<User, Order>", Set.of("User"), imports);
+
+        assertThat(imports.build()).isEqualTo("import {Order} from './models';\n\n");
+    }
+
+    @Test
+    void nothing_is_imported_without_registry() {
+        TsClass clazz = new TsClass("OrderService").setSuperClass("BaseService");
+
+        assertThat(clazz.buildWithImports(new TsContext())).doesNotContain("import");
+    }
+
+    @Test
+    void types_declared_by_the_file_are_not_imported() {
+        TsFile file = new TsFile("user.ts")
+                .addInterface(new TsInterface("User").setExport())
+                .addClass(new TsClass("UserService").addMethod(new TsMethod("load")
+                        .addParameter(new TsFunctionParameter("user").setType(TsSimpleType.of("User")))
+                        .addParameter(new TsFunctionParameter("order").setType(TsSimpleType.of("Order")))));
+        TsContext context = new TsContext();
+        context.setTypeRegistry(createRegistry());
+
+        String code = file.buildWithImports(context);
+
+        assertThat(code).startsWith("import {Order} from './models/order';")
+                .doesNotContain("import {User}");
+    }
+
+    @Test
+    void cached_elements_are_resolved_per_file() {
+        TsTypeRegistry registry = createRegistry();
+        TsRenderCache cache = new TsRenderCache();
+        TsClass service = new TsClass("UserService").addMethod(new TsMethod("load")
+                .addParameter(new TsFunctionParameter("user").setType("User"))).freeze();
+        TsFile declaring = new TsFile("user.ts").addInterface(new TsInterface("User")).addClass(service);
+        TsFile referencing = new TsFile("user.service.ts").addClass(service);
+
+        TsContext first = new TsContext();
+        first.setRenderCache(cache);
+        first.setTypeRegistry(registry);
+        TsContext second = new TsContext();
+        second.setRenderCache(cache);
+        second.setTypeRegistry(registry);
+
+        assertThat(declaring.buildWithImports(first)).doesNotContain("import");
+        assertThat(referencing.buildWithImports(second)).startsWith("import {User} from './models/user';");
+    }
+
+    @Test
+    void cached_elements_are_resolved_per_registry() {
+        TsRenderCache cache = new TsRenderCache();
+        TsClass clazz = new TsClass("OrderService").setSuperClass("BaseService").freeze();
+
+        TsContext plain = new TsContext();
+        plain.setRenderCache(cache);
+        TsContext inferring = new TsContext();
+        inferring.setRenderCache(cache);
+        inferring.setTypeRegistry(createRegistry());
+
+        assertThat(clazz.buildWithImports(plain)).doesNotContain("import");
+        assertThat(clazz.buildWithImports(inferring)).startsWith("import {BaseService} from './base.service';");
+    }
+
+    @Test
+    void cached_elements_are_rendered_again_if_the_registry_changes() {
+        TsTypeRegistry registry = new TsTypeRegistry();
+        TsRenderCache cache = new TsRenderCache();
+        TsClass clazz = new TsClass("OrderService").setSuperClass("BaseService").freeze();
+        TsContext context = new TsContext();
+        context.setRenderCache(cache);
+        context.setTypeRegistry(registry);
+
+        assertThat(clazz.buildWithImports(context)).doesNotContain("import");
+
+        long version = registry.getVersion();
+        registry.register("BaseService", "./base.service");
+        assertThat(registry.getVersion()).isNotEqualTo(version);
+        TsContext next = new TsContext();
+        next.setRenderCache(cache);
+        next.setTypeRegistry(registry);
+        assertThat(clazz.buildWithImports(next)).startsWith("import {BaseService} from './base.service';");
+    }
+
+    @Test
+    void equal_declared_types_share_the_cached_elements() {
+        TsTypeRegistry registry = createRegistry();
+        TsRenderCache cache = new TsRenderCache();
+        TsClass service = new TsClass("UserService").addMethod(new TsMethod("load")
+                .addParameter(new TsFunctionParameter("user").setType("User"))).freeze();
+
+        long misses = 0;
+        for (int i = 0; i < 3; i++) {
+            TsContext context = new TsContext();
+            context.setRenderCache(cache);
+            context.setTypeRegistry(registry);
+            new TsFile("user-" + i + ".ts").addInterface(new TsInterface("User")).addClass(service).build(context);
+            if (i == 0) {
+                misses = cache.getMissCount();
+            }
+        }
+
+        assertThat(cache.getMissCount()).isEqualTo(misses);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,29 @@
+package de.mlo.dev.tsbuilder.elements.type;
+
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrTypeTest {
+
+    @Test
+    void nested_unions_are_written_flat() {
+        OrType type = new OrType(new OrType(TsTypes.STRING, TsTypes.NUMBER), TsTypes.NULL);
+
+        assertThat(type.build()).isEqualTo("string | number | null");
+    }
+
+    @Test
+    void long_unions_do_not_overflow_the_stack() {
+        TsElement<?> type = TsTypes.STRING;
+        StringBuilder expected = new StringBuilder("string");
+        for (int i = 0; i < 20_000; i++) {
+            type = new OrType(type, TsSimpleType.of("T" + i));
+            expected.append(" | T").append(i);
+        }
+
+        assertThat(type.build()).isEqualTo(expected.toString());
+        assertThat(type.freeze().build()).isEqualTo(expected.toString());
+    }
+}
@@ -0,0 +1,62 @@
+package de.mlo.dev.tsbuilder.elements.type;
+
+import de.mlo.dev.tsbuilder.elements.FrozenElementException;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsSimpleTypeTest {
+
+    @Test
+    void types_are_interned_by_name_and_array_depth() {
+        assertThat(TsSimpleType.of("string") == TsTypes.STRING).isTrue();
+        assertThat(TsSimpleType.of("string", 1) == TsTypes.STRING_ARRAY).isTrue();
+        assertThat(TsTypes.STRING.toArray() == TsTypes.STRING_ARRAY).isTrue();
+        assertThat(TsSimpleType.of("Foo", 2).build()).isEqualTo("Foo[][]");
+        assertThat(TsTypedArray.FLOAT64.getType() == TsSimpleType.of("Float64Array")).isTrue();
+    }
+
+    @Test
+    void custom_types_are_not_interned() {
+        TsSimpleType type = TsSimpleType.of("Foo");
+
+        assertThat(type.isFrozen()).isTrue();
+        assertThat(type == TsSimpleType.of("Foo")).isFalse();
+        assertThat(type).isEqualTo(TsSimpleType.of("Foo"));
+    }
+
+    @Test
+    void custom_factories_create_mutable_types() {
+        TsField field = TsField.custom("user", "User");
+        field.getType().addImport("User", "./user");
+        TsFunctionParameter parameter = TsFunctionParameter.customArray("users", "User");
+        parameter.getType().addImport("User", "./user");
+
+        assertThat(field.buildWithImports()).startsWith("import {User} from './user';");
+        assertThat(parameter.buildWithImports()).startsWith("import {User} from './user';");
+    }
+
+    @Test
+    void shared_types_cannot_be_modified() {
+        assertThat(TsTypes.STRING.isFrozen()).isTrue();
+        assertThatThrownBy(() -> TsTypes.STRING.addImport("Foo", "./foo"))
+                .isInstanceOf(FrozenElementException.class);
+        assertThatThrownBy(() -> TsTypes.NUMBER.addAfterElementContent(TsTypes.STRING))
+                .isInstanceOf(FrozenElementException.class);
+    }
+
+    @Test
+    void mutable_types_stay_mutable() {
+        TsSimpleType type = new TsSimpleType("Foo");
+        type.addImport("Foo", "./foo");
+
+        assertThat(type.toArray().isFrozen()).isFalse();
+        assertThat(type.buildWithImports()).isEqualTo("""
+                import {Foo} from './foo';
+
+                Foo""");
+    }
+}
@@ -0,0 +1,83 @@
+package de.mlo.dev.tsbuilder.elements.type;
+
+import de.mlo.dev.tsbuilder.elements.TsElement;
+import de.mlo.dev.tsbuilder.elements.clazz.constructor.TsConstructorParameter;
+import de.mlo.dev.tsbuilder.elements.function.TsFunctionParameter;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsUnionTypeTest {
+
+    @Test
+    void nested_unions_are_flattened() {
+        TsUnionType union = TsUnionType.of(
+                TsTypes.STRING,
+                TsUnionType.of(TsTypes.NUMBER, TsTypes.DATE),
+                new OrType(TsTypes.NULL, TsTypes.UNDEFINED));
+
+        assertThat(union.size()).isEqualTo(5);
+        assertThat(union.build()).isEqualTo("string | number | Date | null | undefined");
+    }
+
+    @Test
+    void members_are_added_once() {
+        TsUnionType union = TsUnionType.of(TsTypes.STRING, TsTypes.NULL)
+                .add(TsElement.literal("null"))
+                .add(new TsSimpleType("string"));
+
+        assertThat(union.build()).isEqualTo("string | null");
+        assertThat(union.contains(TsElement.literal("string"))).isTrue();
+        assertThat(union.remove(TsTypes.NULL)).isTrue();
+        assertThat(union.build()).isEqualTo("string");
+    }
+
+    @Test
+    void imports_of_skipped_members_are_kept() {
+        TsSimpleType user = new TsSimpleType("User");
+        user.addImport("User", "./user");
+
+        TsUnionType union = TsUnionType.of(TsTypes.NULL, TsSimpleType.of("User"), user);
+
+        assertThat(union.buildWithImports()).isEqualTo("""
+                import {User} from './user';
+
+                null | User""");
+    }
+
+    @Test
+    void parameters_do_not_repeat_members() {
+        TsConstructorParameter parameter = TsConstructorParameter.string("value")
+                .setNullable()
+                .addOrType("number")
+                .setNullable();
+        TsFunctionParameter functionParameter = TsFunctionParameter.string("value")
+                .addOrType(TsUnionType.of(TsTypes.NUMBER, TsTypes.STRING))
+                .setNullable();
+
+        assertThat(parameter.build()).isEqualTo("value: string | null | number");
+        assertThat(functionParameter.build()).isEqualTo("value: string | number | null");
+    }
+
+    @Test
+    void long_unions_are_built_in_one_pass() {
+        TsConstructorParameter parameter = TsConstructorParameter.string("value");
+        for (int i = 0; i < 20_000; i++) {
+            parameter.addOrType("T" + (i % 10_000)).setNullable();
+        }
+
+        assertThat(((TsUnionType) parameter.getType()).size()).isEqualTo(10_002);
+        assertThat(parameter.freeze().build()).startsWith("value: string | T0 | null | T1 | T2");
+    }
+
+    @Test
+    void return_types_do_not_repeat_members() {
+        TsMethod method = new TsMethod("find")
+                .addReturnType(TsUnionType.of(TsSimpleType.of("User"), TsTypes.UNDEFINED))
+                .setOptional(true);
+
+        assertThat(method.getReturnTypeList().size()).isEqualTo(2);
+        assertThat(method.setOptional(false).getReturnTypeList().size()).isEqualTo(1);
+    }
+}
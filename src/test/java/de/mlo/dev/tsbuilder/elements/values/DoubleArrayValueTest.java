@@ -0,0 +1,45 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DoubleArrayValueTest {
+
+    @Test
+    void integral_values_are_written_without_fraction() {
+        assertThat(new DoubleArrayValue(1, -2, 0, 1e10, 123456789012345d).build())
+                .isEqualTo("[1, -2, 0, 10000000000, 123456789012345]");
+        assertThat(new DoubleArrayValue(-0d).build()).isEqualTo("[-0]");
+    }
+
+    @Test
+    void fractions_are_written_as_shortest_decimal() {
+        assertThat(new DoubleArrayValue(1.5, 0.1, -2.25, 0.001, 1.0 / 3).build())
+                .isEqualTo("[1.5, 0.1, -2.25, 0.001, 0.3333333333333333]");
+    }
+
+    @Test
+    void large_and_small_values_are_written_with_exponent() {
+        assertThat(new DoubleArrayValue(1e21, 1.5e300, 1e-8, -2.5e-10, Double.MIN_VALUE).build())
+                .isEqualTo("[1e+21, 1.5e+300, 1e-8, -2.5e-10, 4.9e-324]");
+        assertThat(new DoubleArrayValue(1e20, 9.223372036854776e18, 1e15, 12345678.5, 1e-7, -1.0E-4).build())
+                .isEqualTo("[1e+20, 9.223372036854776e+18, 1e+15, 1.23456785e+7, 1e-7, -1e-4]");
+    }
+
+    @Test
+    void bigint_typed_arrays_are_rejected() {
+        assertThat(new DoubleArrayValue(1.5, 2).asTypedArray(TsTypedArray.FLOAT64).build())
+                .isEqualTo("new Float64Array([1.5, 2])");
+        assertThatThrownBy(() -> new DoubleArrayValue(1).asTypedArray(TsTypedArray.BIG_UINT64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void special_values_are_written_as_javascript_constants() {
+        assertThat(new DoubleArrayValue(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY).build())
+                .isEqualTo("[NaN, Infinity, -Infinity]");
+    }
+}
@@ -0,0 +1,33 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntArrayValueTest {
+
+    @Test
+    void values_are_written_as_number_array() {
+        assertThat(new IntArrayValue(1, -2, 3).build()).isEqualTo("[1, -2, 3]");
+        assertThat(new IntArrayValue().build()).isEqualTo("[]");
+    }
+
+    @Test
+    void values_are_written_as_typed_array() {
+        assertThat(new IntArrayValue(1, 2).asTypedArray(TsTypedArray.INT32).build())
+                .isEqualTo("new Int32Array([1, 2])");
+    }
+
+    @Test
+    void large_array_is_written_in_chunks() {
+        int[] values = new int[10_000];
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 31;
+            expected.append(i > 0 ? ", " : "").append(i * 31);
+        }
+
+        assertThat(new IntArrayValue(values).build()).isEqualTo(expected.append(']').toString());
+    }
+}
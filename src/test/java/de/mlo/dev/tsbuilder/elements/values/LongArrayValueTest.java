@@ -0,0 +1,20 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.type.TsTypedArray;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongArrayValueTest {
+
+    @Test
+    void values_are_written_as_number_array() {
+        assertThat(new LongArrayValue(9007199254740993L, -1).build()).isEqualTo("[9007199254740993, -1]");
+    }
+
+    @Test
+    void values_of_bigint_typed_arrays_have_suffix() {
+        assertThat(new LongArrayValue(1, 2).asTypedArray(TsTypedArray.BIG_INT64).build())
+                .isEqualTo("new BigInt64Array([1n, 2n])");
+    }
+}
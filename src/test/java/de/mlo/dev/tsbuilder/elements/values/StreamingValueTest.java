@@ -0,0 +1,101 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.type.TsTypes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingValueTest {
+
+    @Test
+    void array_is_written_from_stream() {
+        StreamingArrayValue<Integer> value = StreamingArrayValue.ofStream(
+                () -> IntStream.range(0, 4).boxed(),
+                (context, i) -> context.getOutput().append(Integer.toString(i * i)));
+
+        assertThat(value.build()).isEqualTo("[0, 1, 4, 9]");
+        assertThat(value.setMultiline(true).build()).isEqualTo("""
+                [
+                  0,
+                  1,
+                  4,
+                  9
+                ]""");
+    }
+
+    @Test
+    void array_is_written_from_iterator_and_elements() {
+        StreamingArrayValue<String> value = StreamingArrayValue.ofIterator(
+                () -> List.of("a", "b").iterator(),
+                (context, s) -> new StringValue(s).write(context));
+
+        assertThat(value.build()).isEqualTo(new ArrayValue().addStrings("a", "b").build());
+        assertThat(StreamingArrayValue.ofElements(() -> List.of(1, 2).stream(), NumberValue::new).build())
+                .isEqualTo("[1, 2]");
+    }
+
+    @Test
+    void complex_value_is_written_from_stream() {
+        TsField field = new TsField("countries")
+                .setType(TsTypes.ANY)
+                .setValue(StreamingComplexValue.ofStream(
+                        () -> List.of("de", "fr").stream(),
+                        code -> code,
+                        code -> new StringValue(code.toUpperCase())));
+
+        ComplexValue expected = new ComplexValue()
+                .addStringValue("de", "DE")
+                .addStringValue("fr", "FR");
+        assertThat(field.build()).isEqualTo(new TsField("countries").setType(TsTypes.ANY).setValue(expected).build());
+    }
+
+    @Test
+    void stream_is_requested_and_closed_for_each_render_run() {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        StreamingArrayValue<Integer> value = StreamingArrayValue.ofStream(
+                () -> {
+                    opened.incrementAndGet();
+                    return List.of(1, 2).stream().onClose(closed::incrementAndGet);
+                },
+                (context, i) -> context.getOutput().append(i.toString()));
+
+        StringBuilder sb = new StringBuilder();
+        TsContext context = new TsContext(sb);
+        value.writeWithImports(context);
+
+        assertThat(sb.toString()).isEqualTo("[1, 2]");
+        assertThat(opened.get()).isEqualTo(1);
+        assertThat(closed.get()).isEqualTo(1);
+
+        value.build();
+
+        assertThat(opened.get()).isEqualTo(2);
+        assertThat(closed.get()).isEqualTo(2);
+    }
+
+    @Test
+    void imports_of_streamed_elements_are_written_first() {
+        StreamingArrayValue<String> value = StreamingArrayValue.ofElements(
+                () -> List.of("User", "Order").stream(),
+                name -> {
+                    StringValue label = new StringValue(name);
+                    label.addImport(name, "./model");
+                    return label;
+                });
+
+        StringBuilder sb = new StringBuilder();
+        value.writeWithImports(new TsContext(sb));
+
+        assertThat(sb.toString()).isEqualTo("""
+                import {User, Order} from './model';
+
+                ['User', 'Order']""");
+    }
+}
@@ -0,0 +1,26 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringArrayValueTest {
+
+    @Test
+    void values_are_escaped() {
+        StringArrayValue values = new StringArrayValue("it's", "back\\slash", "line\nbreak", "\u0001");
+
+        assertThat(values.build()).isEqualTo("['it\\'s', 'back\\\\slash', 'line\\nbreak', '\\x01']");
+    }
+
+    @Test
+    void distinct_values() {
+        StringArrayValue values = StringArrayValue.distinct(List.of("a", "b", "a", "c", "b"));
+
+        assertThat(values.build()).isEqualTo("['a', 'b', 'c']");
+        assertThat(values).isEqualTo(new StringArrayValue("a", "b", "c"));
+        assertThat(values.hashCode()).isEqualTo(new StringArrayValue("a", "b", "c").hashCode());
+    }
+}
@@ -0,0 +1,34 @@
+package de.mlo.dev.tsbuilder.elements.values;
+
+import de.mlo.dev.tsbuilder.TsOutput;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringEscaperTest {
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder();
+        StringEscaper.appendQuoted(new TsOutput(sb), value);
+        return sb.toString();
+    }
+
+    @Test
+    void plain_strings_are_quoted() {
+        assertThat(quote("")).isEqualTo("''");
+        assertThat(quote("abc \"x\" \u00e4")).isEqualTo("'abc \"x\" \u00e4'");
+    }
+
+    @Test
+    void quotes_backslashes_and_control_characters_are_escaped() {
+        assertThat(quote("it's")).isEqualTo("'it\\'s'");
+        assertThat(quote("back\\slash")).isEqualTo("'back\\\\slash'");
+        assertThat(quote("\b\t\n\u000b\f\r")).isEqualTo("'\\b\\t\\n\\v\\f\\r'");
+        assertThat(quote("\u0000\u001f")).isEqualTo("'\\x00\\x1f'");
+    }
+
+    @Test
+    void line_separators_are_escaped() {
+        assertThat(quote("a\u2028b\u2029c")).isEqualTo("'a\\u2028b\\u2029c'");
+    }
+}
@@ -0,0 +1,67 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.clazz.field.TsField;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import de.mlo.dev.tsbuilder.elements.imports.TsTypeRegistry;
+import de.mlo.dev.tsbuilder.elements.values.StreamingArrayValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsFingerprintTest {
+
+    private static TsFile createFile(String importPath) {
+        TsClass clazz = new TsClass("Foo")
+                .addField(TsField.string("name", "foo"))
+                .addMethod(new TsMethod("run").addContent("// run"));
+        clazz.addImport("Bar", importPath);
+        return new TsFile("foo.ts").addClass(clazz);
+    }
+
+    @Test
+    void equal_models_have_equal_fingerprints() {
+        assertThat(TsFingerprint.of(createFile("./bar"), 2)).isEqualTo(TsFingerprint.of(createFile("./bar"), 2));
+    }
+
+    @Test
+    void imports_and_salt_are_part_of_the_fingerprint() {
+        assertThat(TsFingerprint.of(createFile("./bar"), 2)).isNotEqualTo(TsFingerprint.of(createFile("./baz"), 2));
+        assertThat(TsFingerprint.of(createFile("./bar"), 2)).isNotEqualTo(TsFingerprint.of(createFile("./bar"), 4));
+    }
+
+    @Test
+    void frozen_state_is_not_part_of_the_fingerprint() {
+        TsFile frozen = createFile("./bar");
+        frozen.freeze();
+
+        assertThat(TsFingerprint.of(frozen, 2)).isEqualTo(TsFingerprint.of(createFile("./bar"), 2));
+    }
+
+    @Test
+    void registered_types_are_part_of_the_salt() {
+        TsContext context = new TsContext();
+        long withoutRegistry = TsFingerprint.salt(context);
+        context.setTypeRegistry(new TsTypeRegistry().register("User", "./models/user"));
+        long withRegistry = TsFingerprint.salt(context);
+        TsContext other = new TsContext();
+        other.setTypeRegistry(new TsTypeRegistry().register("User", "./user"));
+
+        assertThat(withRegistry).isNotEqualTo(withoutRegistry);
+        assertThat(TsFingerprint.salt(other)).isNotEqualTo(withRegistry);
+        other.getTypeRegistry().register("User", "./models/user");
+        assertThat(TsFingerprint.salt(other)).isEqualTo(withRegistry);
+    }
+
+    @Test
+    void lambdas_cannot_be_fingerprinted() {
+        TsFile file = new TsFile("foo.ts")
+                .add(StreamingArrayValue.ofStream(() -> Stream.of(1), (context, i) -> context.getOutput().append("1")));
+
+        assertThat(TsFingerprint.of(file, 2).isPresent()).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.interfaces.TsInterface;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsImportGraphTest {
+
+    private static final Path USER = Path.of("models", "user.ts");
+    private static final Path ORDER = Path.of("models", "order.ts");
+    private static final Path SERVICE = Path.of("services", "order.service.ts");
+
+    private static TsProject createProject() {
+        return new TsProject()
+                .addFile(USER, new TsFile("user.ts").addInterface(new TsInterface("User").setExport()))
+                .addFile(ORDER, new TsFile("order.ts").addInterface(new TsInterface("Order").setExport()))
+                .addFile(SERVICE, new TsFile("order.service.ts").addClass(new TsClass("OrderService").setExport()));
+    }
+
+    @Test
+    void import_paths_are_relative() {
+        TsImportPaths paths = new TsImportPaths();
+
+        assertThat(paths.relativize(SERVICE, USER)).isEqualTo("../models/user");
+        assertThat(paths.relativize(ORDER, USER)).isEqualTo("./user");
+        assertThat(paths.relativize(Path.of("index.ts"), USER)).isEqualTo("./models/user");
+        assertThat(paths.relativize(Path.of("services", "order.service.ts"), USER)).isEqualTo("../models/user");
+        assertThat(paths.size()).isEqualTo(3);
+    }
+
+    @Test
+    void symbols_are_imported_from_the_exporting_file() {
+        TsProject project = createProject()
+                .addImport(SERVICE, "User", "Order")
+                .addImport(ORDER, "User", "Order");
+
+        assertThat(project.build().get(SERVICE)).contains("import {User} from '../models/user';",
+                "import {Order} from '../models/order';");
+        assertThat(project.build().get(ORDER)).contains("import {User} from './user';")
+                .doesNotContain("import {Order}");
+        assertThat(project.getImportGraph().getImports(SERVICE)).containsExactly(USER, ORDER);
+    }
+
+    @Test
+    void unknown_symbols_are_rejected() {
+        TsProject project = createProject();
+
+        assertThatThrownBy(() -> project.addImport(SERVICE, "Customer"))
+                .isInstanceOf(UnknownSymbolException.class);
+    }
+
+    @Test
+    void acyclic_project_has_no_cycles() {
+        TsProject project = createProject()
+                .addImport(SERVICE, "User", "Order")
+                .addImport(ORDER, "User");
+
+        assertThat(project.findImportCycles()).isEmpty();
+    }
+
+    @Test
+    void cycles_are_found() {
+        TsProject project = createProject()
+                .addImport(ORDER, "User")
+                .addImport(USER, "Order")
+                .addImport(SERVICE, "Order");
+        project.getFiles().get(SERVICE).addImport("OrderService", "./order.service");
+
+        List<List<Path>> cycles = project.findImportCycles();
+
+        assertThat(cycles).containsExactly(List.of(USER, ORDER), List.of(SERVICE));
+    }
+}
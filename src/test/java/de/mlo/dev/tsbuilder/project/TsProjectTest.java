@@ -0,0 +1,260 @@
+package de.mlo.dev.tsbuilder.project;
+
+import de.mlo.dev.tsbuilder.elements.TsContext;
+import de.mlo.dev.tsbuilder.elements.clazz.TsClass;
+import de.mlo.dev.tsbuilder.elements.file.TsFile;
+import de.mlo.dev.tsbuilder.elements.function.TsFunction;
+import de.mlo.dev.tsbuilder.elements.function.TsMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsProjectTest {
+
+    private static TsProject createProject() {
+        TsProject project = new TsProject();
+        for (int i = 0; i < 50; i++) {
+            TsClass clazz = new TsClass("Service" + i)
+                    .setExport()
+                    .addMethod(new TsMethod("run").addContent("// run " + i));
+            clazz.addImport("Model" + i, "./models/model-" + i);
+            project.addFile(Path.of("services", "service-" + i + ".ts"), new TsFile("service-" + i + ".ts").addClass(clazz));
+        }
+        return project;
+    }
+
+    @Test
+    void build_is_independent_of_thread_count() {
+        Map<Path, String> sequential = createProject()
+                .setExecutor(Runnable::run)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<Path, String> parallel = createProject()
+                    .setExecutor(executor)
+                    .build();
+
+            assertThat(parallel).isEqualTo(sequential);
+            assertThat(parallel.keySet().iterator().next()).isEqualTo(Path.of("services", "service-0.ts"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static TsClass createSharedClass() {
+        TsClass clazz = new TsClass("BaseService").setExport();
+        for (int i = 0; i < 200; i++) {
+            clazz.addMethod(new TsMethod("load" + i).addContent("// first"))
+                    .addMethod(new TsMethod("load" + i).addContent("// second"));
+        }
+        return clazz;
+    }
+
+    @Test
+    void shared_elements_are_resolved_once() {
+        String expected = createSharedClass().build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 10; round++) {
+                TsClass shared = createSharedClass();
+                TsProject project = new TsProject().setExecutor(executor);
+                for (int i = 0; i < 100; i++) {
+                    project.addFile(Path.of("file-" + i + ".ts"), new TsFile("file-" + i + ".ts").addClass(shared));
+                }
+
+                Map<Path, String> result = project.build();
+
+                for (String content : result.values()) {
+                    assertThat(content).isEqualTo(expected);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void files_and_their_content_can_share_one_executor() throws Exception {
+        Map<Path, String> sequential = createProject()
+                .setExecutor(Runnable::run)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TsProject project = createProject()
+                    .setExecutor(executor)
+                    .setContextFactory(() -> {
+                        TsContext context = new TsContext();
+                        context.setExecutor(executor);
+                        return context;
+                    });
+            // a bounded pool must not dead lock if the files wait for their content
+            Map<Path, String> parallel = CompletableFuture.supplyAsync(project::build).get(60, TimeUnit.SECONDS);
+
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void files_with_same_path_are_merged() {
+        TsProject project = new TsProject()
+                .addFiles(new TsFile("util.ts").addFunction(new TsFunction("a")),
+                        new TsFile("util.ts").addFunction(new TsFunction("b")));
+
+        Map<Path, String> result = project.build();
+
+        assertThat(result.get(Path.of("util.ts"))).isEqualTo("""
+                function a () {
+                }
+                function b () {
+                }""");
+    }
+
+    @Test
+    void write_to_directory() throws IOException {
+        TsProject project = createProject();
+        Path directory = Files.createTempDirectory("ts-project");
+
+        try {
+            TsWriteResult result = project.writeTo(directory);
+
+            assertThat(result.getWrittenCount()).isEqualTo(50);
+            for (Map.Entry<Path, String> entry : project.build().entrySet()) {
+                assertThat(Files.readString(directory.resolve(entry.getKey()))).isEqualTo(entry.getValue());
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unchanged_files_are_skipped() throws IOException {
+        Path directory = Files.createTempDirectory("ts-project");
+
+        try {
+            createProject().writeTo(directory);
+
+            TsProject project = createProject()
+                    .addFile(Path.of("services", "service-0.ts"), new TsFile("service-0.ts").addFunction(new TsFunction("changed")));
+            TsWriteResult result = project.writeTo(directory);
+
+            assertThat(result.getWrittenFiles()).isEqualTo(List.of(Path.of("services", "service-0.ts")));
+            assertThat(result.getSkippedCount()).isEqualTo(49);
+            assertThat(project.setSkipUnchanged(false).writeTo(directory).getWrittenCount()).isEqualTo(50);
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unchanged_models_are_not_rendered() throws IOException {
+        Path directory = Files.createTempDirectory("ts-project");
+        Path manifest = Path.of(".ts-builder-manifest");
+
+        try {
+            TsWriteResult first = createProject().setManifestFile(manifest).writeTo(directory);
+            assertThat(first.getRenderedCount()).isEqualTo(50);
+            assertThat(Files.exists(directory.resolve(manifest))).isTrue();
+
+            TsWriteResult second = createProject().setManifestFile(manifest).writeTo(directory);
+            assertThat(second.getRenderedCount()).isEqualTo(0);
+            assertThat(second.getSkippedCount()).isEqualTo(50);
+
+            Files.writeString(directory.resolve(Path.of("services", "service-1.ts")), "// modified");
+            TsProject changed = createProject()
+                    .setManifestFile(manifest)
+                    .addFile(Path.of("services", "service-0.ts"), new TsFile("service-0.ts").addFunction(new TsFunction("changed")));
+            TsWriteResult third = changed.writeTo(directory);
+            assertThat(third.getRenderedCount()).isEqualTo(2);
+            assertThat(third.getWrittenFiles()).isEqualTo(List.of(
+                    Path.of("services", "service-0.ts"),
+                    Path.of("services", "service-1.ts")));
+
+            TsProject smaller = new TsProject()
+                    .setManifestFile(manifest)
+                    .addFile(Path.of("services", "service-0.ts"), new TsFile("service-0.ts"));
+            TsWriteResult fourth = smaller.writeTo(directory);
+            assertThat(fourth.getDeletedCount()).isEqualTo(49);
+            try (Stream<Path> paths = Files.list(directory.resolve("services"))) {
+                assertThat(paths.count()).isEqualTo(1L);
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    void paths_outside_of_the_output_directory_are_rejected() {
+        TsProject project = new TsProject();
+
+        assertThatThrownBy(() -> project.addFile(Path.of("..", "outside.ts"), new TsFile("outside.ts")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> project.addFile(Path.of("services", "..", "..", "outside.ts"), new TsFile("outside.ts")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> project.addFile(Path.of("outside.ts").toAbsolutePath(), new TsFile("outside.ts")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(project.addFile(Path.of("services", "..", "inside.ts"), new TsFile("inside.ts")).getFiles())
+                .containsKey(Path.of("inside.ts"));
+    }
+
+    @Test
+    void manifest_paths_outside_of_the_output_directory_are_not_deleted() throws IOException {
+        Path root = Files.createTempDirectory("ts-project");
+        Path directory = Files.createDirectory(root.resolve("output"));
+        Path manifest = Path.of(".ts-builder-manifest");
+        Path sibling = Files.writeString(root.resolve("sibling.ts"), "// keep");
+        Path absolute = Files.writeString(root.resolve("absolute.ts"), "// keep");
+
+        try {
+            new TsManifest()
+                    .put(Path.of("..", "sibling.ts"), new TsManifest.Entry(1, 1, 7))
+                    .put(absolute, new TsManifest.Entry(1, 1, 7))
+                    .put(Path.of("removed.ts"), new TsManifest.Entry(1, 1, 7))
+                    .write(directory.resolve(manifest));
+            Files.writeString(directory.resolve("removed.ts"), "// removed");
+
+            TsWriteResult result = new TsProject()
+                    .setManifestFile(manifest)
+                    .addFile(new TsFile("kept.ts"))
+                    .writeTo(directory);
+
+            assertThat(result.getDeletedFiles()).isEqualTo(List.of(Path.of("removed.ts")));
+            assertThat(Files.readString(sibling)).isEqualTo("// keep");
+            assertThat(Files.readString(absolute)).isEqualTo("// keep");
+        } finally {
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}